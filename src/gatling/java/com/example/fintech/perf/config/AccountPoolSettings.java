@@ -0,0 +1,33 @@
+package com.example.fintech.perf.config;
+
+import com.example.fintech.perf.constants.TestDataConstants;
+
+import java.nio.file.Path;
+
+public record AccountPoolSettings(
+    AccountSource source,
+    Path file,
+    int size,
+    PoolFeedStrategy strategy,
+    double seedRatePerSec,
+    String fundAmount
+) {
+
+  private static final String DEFAULT_FILE = ".perf-data/account-pool.csv";
+  private static final int DEFAULT_SIZE = 1_000;
+  private static final double DEFAULT_SEED_RATE_PER_SEC = 50.0;
+
+  static AccountPoolSettings from(ConfigSource source) {
+    return new AccountPoolSettings(
+        AccountSource.from(source.read("accounts.source", "ACCOUNTS_SOURCE", "register")),
+        Path.of(source.read("pool.file", "POOL_FILE", DEFAULT_FILE)),
+        source.readPositive("pool.size", "POOL_SIZE", DEFAULT_SIZE),
+        PoolFeedStrategy.from(source.read("pool.strategy", "POOL_STRATEGY", "circular")),
+        source.readPositive("pool.seedRatePerSec", "POOL_SEED_RATE_PER_SEC", DEFAULT_SEED_RATE_PER_SEC),
+        source.read("pool.fundAmount", "POOL_FUND_AMOUNT", TestDataConstants.OPEN_ENDED_FUND_AMOUNT));
+  }
+
+  public boolean pooled() {
+    return source == AccountSource.POOL;
+  }
+}
@@ -0,0 +1,19 @@
+package com.example.fintech.perf.config;
+
+public enum AccountSource {
+  REGISTER,
+  POOL;
+
+  public static AccountSource from(String value) {
+    if (value == null || value.isBlank()) {
+      return REGISTER;
+    }
+
+    return switch (value.trim().toLowerCase()) {
+      case "register" -> REGISTER;
+      case "pool" -> POOL;
+      default -> throw new IllegalArgumentException(
+          "Unsupported accounts.source: " + value + ". Supported: register|pool");
+    };
+  }
+}
@@ -0,0 +1,42 @@
+package com.example.fintech.perf.config;
+
+public record CapacityPlan(
+    double startRate,
+    double rateStep,
+    int maxSteps,
+    int holdSeconds,
+    int rampSeconds
+) {
+
+  private static final double DEFAULT_START_RATE = 2.0;
+  private static final double DEFAULT_RATE_STEP = 2.0;
+  private static final int DEFAULT_MAX_STEPS = 10;
+  private static final int DEFAULT_HOLD_SECONDS = 60;
+  private static final int DEFAULT_RAMP_SECONDS = 10;
+
+  static CapacityPlan from(ConfigSource source) {
+    return new CapacityPlan(
+        source.readPositive("capacity.startRate", "CAPACITY_START_RATE", DEFAULT_START_RATE),
+        source.readPositive("capacity.rateStep", "CAPACITY_RATE_STEP", DEFAULT_RATE_STEP),
+        source.readPositive("capacity.maxSteps", "CAPACITY_MAX_STEPS", DEFAULT_MAX_STEPS),
+        source.readPositive("capacity.holdSeconds", "CAPACITY_HOLD_SECONDS", DEFAULT_HOLD_SECONDS),
+        source.readNonNegative("capacity.rampSeconds", "CAPACITY_RAMP_SECONDS", DEFAULT_RAMP_SECONDS));
+  }
+
+  public double rateAt(int step) {
+    return startRate + step * rateStep;
+  }
+
+  public long stepPeriodMs() {
+    return (holdSeconds + rampSeconds) * 1_000L;
+  }
+
+  public long holdMs() {
+    return holdSeconds * 1_000L;
+  }
+
+  public CapacityPlan scaled(int scale) {
+    int safeScale = Math.max(1, scale);
+    return new CapacityPlan(startRate * safeScale, rateStep * safeScale, maxSteps, holdSeconds, rampSeconds);
+  }
+}
@@ -0,0 +1,160 @@
+package com.example.fintech.perf.config;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+// Resolves a setting from a system property, then an environment variable, then application-performance.properties.
+final class ConfigSource {
+
+  private static final String CONFIG_FILE = "application-performance.properties";
+
+  private static final ConfigSource CLASSPATH = new ConfigSource(loadFileProperties());
+
+  private final Properties fileProperties;
+
+  ConfigSource(Properties fileProperties) {
+    this.fileProperties = fileProperties;
+  }
+
+  static ConfigSource classpath() {
+    return CLASSPATH;
+  }
+
+  String read(String systemProperty, String envVar, String defaultValue) {
+    String value = readOptional(systemProperty, envVar);
+    return value == null ? defaultValue : value.trim();
+  }
+
+  int readInt(String systemProperty, String envVar, int defaultValue) {
+    return parseInt(read(systemProperty, envVar, String.valueOf(defaultValue)), defaultValue);
+  }
+
+  long readLong(String systemProperty, String envVar, long defaultValue) {
+    String value = read(systemProperty, envVar, String.valueOf(defaultValue));
+    try {
+      return Long.parseLong(value.trim());
+    } catch (NumberFormatException exception) {
+      return defaultValue;
+    }
+  }
+
+  double readDouble(String systemProperty, String envVar, double defaultValue) {
+    return parseDouble(read(systemProperty, envVar, String.valueOf(defaultValue)), defaultValue);
+  }
+
+  boolean readBoolean(String systemProperty, String envVar, boolean defaultValue) {
+    return Boolean.parseBoolean(read(systemProperty, envVar, String.valueOf(defaultValue)));
+  }
+
+  int readPositive(String systemProperty, String envVar, int defaultValue) {
+    int value = readInt(systemProperty, envVar, defaultValue);
+    return value > 0 ? value : defaultValue;
+  }
+
+  double readPositive(String systemProperty, String envVar, double defaultValue) {
+    double value = readDouble(systemProperty, envVar, defaultValue);
+    return value > 0 ? value : defaultValue;
+  }
+
+  int readNonNegative(String systemProperty, String envVar, int defaultValue) {
+    return Math.max(0, readInt(systemProperty, envVar, defaultValue));
+  }
+
+  double readNonNegative(String systemProperty, String envVar, double defaultValue) {
+    return Math.max(0.0, readDouble(systemProperty, envVar, defaultValue));
+  }
+
+  // A profile-specific value (<prefix><profile>.<name>) wins over one that applies to every profile (<prefix><name>).
+  String readForProfile(PerfProfile profile, String prefix, String name) {
+    String profileKey = prefix + profile.name().toLowerCase(Locale.ROOT) + "." + name;
+    String value = readOptional(profileKey, toEnvName(profileKey));
+    if (value != null) {
+      return value;
+    }
+    String sharedKey = prefix + name;
+    return readOptional(sharedKey, toEnvName(sharedKey));
+  }
+
+  String readOptional(String systemProperty, String envVar) {
+    String fromSystemProperty = System.getProperty(systemProperty);
+    if (fromSystemProperty != null && !fromSystemProperty.isBlank()) {
+      return fromSystemProperty;
+    }
+
+    String fromEnv = System.getenv(envVar);
+    if (fromEnv != null && !fromEnv.isBlank()) {
+      return fromEnv;
+    }
+
+    String fromFile = fileProperties.getProperty(systemProperty);
+    if (fromFile != null && !fromFile.isBlank()) {
+      return fromFile;
+    }
+
+    return null;
+  }
+
+  static int parseInt(String value, int defaultValue) {
+    try {
+      return Integer.parseInt(value.trim());
+    } catch (NumberFormatException exception) {
+      return defaultValue;
+    }
+  }
+
+  static double parseDouble(String value, double defaultValue) {
+    try {
+      return Double.parseDouble(value.trim());
+    } catch (NumberFormatException exception) {
+      return defaultValue;
+    }
+  }
+
+  static List<Integer> parsePositiveInts(String value, String defaultValue) {
+    try {
+      List<Integer> values = Arrays.stream(value.split(","))
+          .map(String::trim)
+          .filter(item -> !item.isEmpty())
+          .map(Integer::valueOf)
+          .filter(item -> item > 0)
+          .distinct()
+          .sorted()
+          .toList();
+      return values.isEmpty() ? parsePositiveInts(defaultValue, defaultValue) : values;
+    } catch (NumberFormatException exception) {
+      return parsePositiveInts(defaultValue, defaultValue);
+    }
+  }
+
+  static List<String> parseNames(String value) {
+    return Arrays.stream(value.split(","))
+        .map(String::trim)
+        .filter(name -> !name.isEmpty())
+        .distinct()
+        .toList();
+  }
+
+  static String toEnvName(String key) {
+    return key
+        .replaceAll("([a-z0-9])([A-Z])", "$1_$2")
+        .replaceAll("[^A-Za-z0-9]", "_")
+        .toUpperCase(Locale.ROOT);
+  }
+
+  private static Properties loadFileProperties() {
+    Properties properties = new Properties();
+
+    try (InputStream input = ConfigSource.class.getClassLoader().getResourceAsStream(CONFIG_FILE)) {
+      if (input != null) {
+        properties.load(input);
+      }
+    } catch (Exception ignored) {
+      // Keep defaults/overrides behavior if the file is absent or unreadable.
+    }
+
+    return properties;
+  }
+}
@@ -0,0 +1,21 @@
+package com.example.fintech.perf.config;
+
+public enum ConnectionModel {
+  PER_USER,
+  SHARED,
+  HTTP2;
+
+  public static ConnectionModel from(String value) {
+    if (value == null || value.isBlank()) {
+      return PER_USER;
+    }
+
+    return switch (value.trim().toLowerCase()) {
+      case "per-user", "per_user", "user" -> PER_USER;
+      case "shared", "pool" -> SHARED;
+      case "http2", "h2" -> HTTP2;
+      default -> throw new IllegalArgumentException(
+          "Unsupported connection.model: " + value + ". Supported: per-user|shared|http2");
+    };
+  }
+}
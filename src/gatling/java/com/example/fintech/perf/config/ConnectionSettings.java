@@ -0,0 +1,54 @@
+package com.example.fintech.perf.config;
+
+import java.util.List;
+
+public record ConnectionSettings(
+    ConnectionModel model,
+    int maxConnectionsPerHost,
+    boolean keepAlive,
+    boolean warmUp,
+    boolean asyncDns,
+    List<String> dnsServers,
+    boolean perUserDns,
+    String matrixId
+) {
+
+  static ConnectionSettings from(ConfigSource source) {
+    return new ConnectionSettings(
+        ConnectionModel.from(source.read("connection.model", "CONNECTION_MODEL", "per-user")),
+        source.readNonNegative("connection.maxPerHost", "CONNECTION_MAX_PER_HOST", 0),
+        source.readBoolean("connection.keepAlive", "CONNECTION_KEEP_ALIVE", true),
+        source.readBoolean("connection.warmUp", "CONNECTION_WARM_UP", true),
+        source.readBoolean("connection.asyncDns", "CONNECTION_ASYNC_DNS", false),
+        ConfigSource.parseNames(source.read("connection.dnsServers", "CONNECTION_DNS_SERVERS", "")),
+        source.readBoolean("connection.perUserDns", "CONNECTION_PER_USER_DNS", false),
+        source.read("connection.matrixId", "CONNECTION_MATRIX_ID", "").trim().replace(",", ""));
+  }
+
+  public boolean shared() {
+    return model != ConnectionModel.PER_USER;
+  }
+
+  public boolean matrixing() {
+    return !matrixId.isBlank();
+  }
+
+  // HTTP/2 is only negotiated over TLS, so against a plain http:// base URL the http2 model is a shared HTTP/1.1 pool.
+  public String describe(boolean tls) {
+    StringBuilder description = new StringBuilder(switch (model) {
+      case PER_USER -> "per-user";
+      case SHARED -> "shared";
+      case HTTP2 -> tls ? "http2" : "http1.1-shared (no tls)";
+    });
+    if (maxConnectionsPerHost > 0) {
+      description.append(" max ").append(maxConnectionsPerHost).append("/host");
+    }
+    description.append(keepAlive ? " keep-alive" : " close");
+    if (perUserDns) {
+      description.append(" per-user-dns");
+    } else if (asyncDns) {
+      description.append(" async-dns");
+    }
+    return description.toString();
+  }
+}
@@ -0,0 +1,39 @@
+package com.example.fintech.perf.config;
+
+public record FailFastSettings(
+    boolean enabled,
+    int windowSeconds,
+    int sustainedWindows,
+    int minRequests,
+    double maxErrorRatePercent,
+    int maxP95Ms
+) {
+
+  private static final int DEFAULT_WINDOW_SECONDS = 10;
+  private static final int DEFAULT_SUSTAINED_WINDOWS = 3;
+  private static final int DEFAULT_MIN_REQUESTS = 20;
+  private static final double DEFAULT_MAX_ERROR_RATE_PERCENT = 50.0;
+
+  static FailFastSettings from(ConfigSource source, int requestTimeoutMs) {
+    int maxP95Ms = source.readInt("failfast.maxP95Ms", "FAIL_FAST_MAX_P95_MS", 0);
+    return new FailFastSettings(
+        source.readBoolean("failfast.enabled", "FAIL_FAST_ENABLED", true),
+        source.readPositive("failfast.windowSeconds", "FAIL_FAST_WINDOW_SECONDS", DEFAULT_WINDOW_SECONDS),
+        source.readPositive("failfast.sustainedWindows", "FAIL_FAST_SUSTAINED_WINDOWS", DEFAULT_SUSTAINED_WINDOWS),
+        Math.max(1, source.readInt("failfast.minRequests", "FAIL_FAST_MIN_REQUESTS", DEFAULT_MIN_REQUESTS)),
+        source.readPositive(
+            "failfast.maxErrorRatePercent",
+            "FAIL_FAST_MAX_ERROR_RATE_PERCENT",
+            DEFAULT_MAX_ERROR_RATE_PERCENT),
+        // A p95 at the request timeout means the slowest requests are timing out rather than completing.
+        maxP95Ms > 0 ? maxP95Ms : requestTimeoutMs);
+  }
+
+  public long windowMs() {
+    return windowSeconds * 1_000L;
+  }
+
+  public int sustainedSeconds() {
+    return windowSeconds * sustainedWindows;
+  }
+}
@@ -0,0 +1,19 @@
+package com.example.fintech.perf.config;
+
+import java.util.List;
+
+public record HistorySettings(List<Integer> sizes, int accountsPerSize) {
+
+  private static final String DEFAULT_SIZES = "10,100,1000,10000";
+  private static final int DEFAULT_ACCOUNTS_PER_SIZE = 2;
+
+  static HistorySettings from(ConfigSource source) {
+    return new HistorySettings(
+        ConfigSource.parsePositiveInts(source.read("history.sizes", "HISTORY_SIZES", DEFAULT_SIZES), DEFAULT_SIZES),
+        source.readPositive("history.accountsPerSize", "HISTORY_ACCOUNTS_PER_SIZE", DEFAULT_ACCOUNTS_PER_SIZE));
+  }
+
+  public int preparedAccounts() {
+    return sizes.size() * accountsPerSize;
+  }
+}
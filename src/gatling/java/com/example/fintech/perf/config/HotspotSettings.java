@@ -0,0 +1,15 @@
+package com.example.fintech.perf.config;
+
+public record HotspotSettings(int hotPayees, double payeeSkew, boolean hotPayers, double payerSkew) {
+
+  private static final int DEFAULT_HOT_PAYEES = 5;
+  private static final double DEFAULT_SKEW = 1.0;
+
+  static HotspotSettings from(ConfigSource source) {
+    return new HotspotSettings(
+        source.readPositive("hotspot.payees", "HOTSPOT_PAYEES", DEFAULT_HOT_PAYEES),
+        source.readNonNegative("hotspot.payeeSkew", "HOTSPOT_PAYEE_SKEW", DEFAULT_SKEW),
+        source.readBoolean("hotspot.hotPayers", "HOTSPOT_HOT_PAYERS", false),
+        source.readNonNegative("hotspot.payerSkew", "HOTSPOT_PAYER_SKEW", DEFAULT_SKEW));
+  }
+}
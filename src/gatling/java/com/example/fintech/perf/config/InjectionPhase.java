@@ -0,0 +1,111 @@
+package com.example.fintech.perf.config;
+
+import io.gatling.javaapi.core.OpenInjectionStep;
+
+import static io.gatling.javaapi.core.CoreDsl.constantUsersPerSec;
+import static io.gatling.javaapi.core.CoreDsl.rampUsers;
+import static io.gatling.javaapi.core.CoreDsl.rampUsersPerSec;
+
+public sealed interface InjectionPhase {
+
+  int seconds();
+
+  long users();
+
+  double peakRate();
+
+  double offsetSecondsOf(long userIndex);
+
+  OpenInjectionStep toStep();
+
+  InjectionPhase scaled(double factor);
+
+  record RampUsers(int count, int seconds) implements InjectionPhase {
+
+    @Override
+    public long users() {
+      return count;
+    }
+
+    @Override
+    public double peakRate() {
+      return count / (double) seconds;
+    }
+
+    @Override
+    public double offsetSecondsOf(long userIndex) {
+      return userIndex * seconds / (double) count;
+    }
+
+    @Override
+    public OpenInjectionStep toStep() {
+      return rampUsers(count).during(seconds);
+    }
+
+    @Override
+    public InjectionPhase scaled(double factor) {
+      return new RampUsers(Math.max(1, (int) Math.round(count * factor)), seconds);
+    }
+  }
+
+  record ConstantRate(double rate, int seconds) implements InjectionPhase {
+
+    @Override
+    public long users() {
+      return (long) (rate * seconds);
+    }
+
+    @Override
+    public double peakRate() {
+      return rate;
+    }
+
+    @Override
+    public double offsetSecondsOf(long userIndex) {
+      return userIndex / rate;
+    }
+
+    @Override
+    public OpenInjectionStep toStep() {
+      return constantUsersPerSec(rate).during(seconds);
+    }
+
+    @Override
+    public InjectionPhase scaled(double factor) {
+      return new ConstantRate(rate * factor, seconds);
+    }
+  }
+
+  record RampRate(double fromRate, double toRate, int seconds) implements InjectionPhase {
+
+    @Override
+    public long users() {
+      return (long) ((fromRate + toRate) / 2.0 * seconds);
+    }
+
+    @Override
+    public double peakRate() {
+      return Math.max(fromRate, toRate);
+    }
+
+    @Override
+    public double offsetSecondsOf(long userIndex) {
+      // Solve fromRate * t + (slope / 2) * t^2 = userIndex for the arrival time t.
+      double slope = (toRate - fromRate) / seconds;
+      if (slope == 0.0) {
+        return userIndex / fromRate;
+      }
+      return (-fromRate + Math.sqrt(fromRate * fromRate + 2.0 * slope * userIndex)) / slope;
+    }
+
+    @Override
+    public OpenInjectionStep toStep() {
+      return rampUsersPerSec(fromRate).to(toRate).during(seconds);
+    }
+
+    @Override
+    public InjectionPhase scaled(double factor) {
+      return new RampRate(fromRate * factor, toRate * factor, seconds);
+    }
+  }
+}
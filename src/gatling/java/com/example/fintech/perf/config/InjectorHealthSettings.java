@@ -0,0 +1,30 @@
+package com.example.fintech.perf.config;
+
+public record InjectorHealthSettings(
+    double maxCpuPercent,
+    double maxGcPercent,
+    int maxSchedulingLagMs,
+    double minAchievedRatePercent,
+    boolean failOnSaturation
+) {
+
+  private static final double DEFAULT_MAX_CPU_PERCENT = 90.0;
+  private static final double DEFAULT_MAX_GC_PERCENT = 10.0;
+  private static final int DEFAULT_MAX_SCHEDULING_LAG_MS = 50;
+  private static final double DEFAULT_MIN_ACHIEVED_RATE_PERCENT = 95.0;
+
+  static InjectorHealthSettings from(ConfigSource source) {
+    return new InjectorHealthSettings(
+        source.readPositive("health.maxCpuPercent", "INJECTOR_HEALTH_MAX_CPU_PERCENT", DEFAULT_MAX_CPU_PERCENT),
+        source.readPositive("health.maxGcPercent", "INJECTOR_HEALTH_MAX_GC_PERCENT", DEFAULT_MAX_GC_PERCENT),
+        source.readPositive(
+            "health.maxSchedulingLagMs",
+            "INJECTOR_HEALTH_MAX_SCHEDULING_LAG_MS",
+            DEFAULT_MAX_SCHEDULING_LAG_MS),
+        source.readNonNegative(
+            "health.minAchievedRatePercent",
+            "INJECTOR_HEALTH_MIN_ACHIEVED_RATE_PERCENT",
+            DEFAULT_MIN_ACHIEVED_RATE_PERCENT),
+        source.readBoolean("health.failOnSaturation", "INJECTOR_HEALTH_FAIL_ON_SATURATION", false));
+  }
+}
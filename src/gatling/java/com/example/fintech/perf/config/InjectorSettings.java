@@ -0,0 +1,33 @@
+package com.example.fintech.perf.config;
+
+import java.nio.file.Path;
+
+public record InjectorSettings(int count, int index, String simulation, String jvmArgs, Path gatlingResultsDir) {
+
+  private static final String DEFAULT_GATLING_RESULTS_DIR = "build/reports/gatling";
+
+  static InjectorSettings from(ConfigSource source) {
+    int count = source.readPositive("injector.count", "INJECTOR_COUNT", 1);
+    return new InjectorSettings(
+        count,
+        Math.min(count - 1, source.readNonNegative("injector.index", "INJECTOR_INDEX", 0)),
+        source.read("injector.simulation", "INJECTOR_SIMULATION", ""),
+        source.read("injector.jvmArgs", "INJECTOR_JVM_ARGS", ""),
+        Path.of(source.read(
+            "injector.gatlingResultsDir",
+            "INJECTOR_GATLING_RESULTS_DIR",
+            DEFAULT_GATLING_RESULTS_DIR)));
+  }
+
+  public boolean distributed() {
+    return count > 1;
+  }
+
+  public double share() {
+    return 1.0 / count;
+  }
+
+  public String namespace() {
+    return distributed() ? "i" + index : "";
+  }
+}
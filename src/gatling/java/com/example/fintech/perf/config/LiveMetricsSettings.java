@@ -0,0 +1,21 @@
+package com.example.fintech.perf.config;
+
+public record LiveMetricsSettings(boolean enabled, int windowSeconds, int port) {
+
+  private static final int DEFAULT_WINDOW_SECONDS = 1;
+
+  static LiveMetricsSettings from(ConfigSource source) {
+    return new LiveMetricsSettings(
+        source.readBoolean("live.enabled", "LIVE_METRICS_ENABLED", true),
+        source.readPositive("live.windowSeconds", "LIVE_METRICS_WINDOW_SECONDS", DEFAULT_WINDOW_SECONDS),
+        source.readNonNegative("live.port", "LIVE_METRICS_PORT", 0));
+  }
+
+  public long windowMs() {
+    return windowSeconds * 1_000L;
+  }
+
+  public boolean endpointEnabled() {
+    return port > 0;
+  }
+}
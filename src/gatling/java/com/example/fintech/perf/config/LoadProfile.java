@@ -1,40 +1,141 @@
 package com.example.fintech.perf.config;
 
+import com.example.fintech.perf.config.InjectionPhase.ConstantRate;
+import com.example.fintech.perf.config.InjectionPhase.RampRate;
+import com.example.fintech.perf.config.InjectionPhase.RampUsers;
 import io.gatling.javaapi.core.OpenInjectionStep;
 
-import static io.gatling.javaapi.core.CoreDsl.constantUsersPerSec;
-import static io.gatling.javaapi.core.CoreDsl.rampUsers;
+import java.util.ArrayList;
+import java.util.List;
 
 public final class LoadProfile {
 
   private static final int P95_MS_SMOKE = 150;
   private static final int P95_MS_BASELINE = 300;
   private static final int P95_MS_STRESS = 600;
+  private static final int P95_MS_CAPACITY = 300;
+  private static final int P95_MS_SOAK = 300;
+  private static final int P95_MS_RATE = 300;
+  private static final int P95_MS_SPIKE = 300;
+
+  private static final int WARMUP_SECONDS_SMOKE = 10;
+  private static final int WARMUP_SECONDS_BASELINE = 30;
+  private static final int WARMUP_SECONDS_STRESS = 60;
+  private static final int WARMUP_SECONDS_SOAK = 120;
+  private static final int WARMUP_SECONDS_RATE = 30;
+  private static final int WARMUP_SECONDS_SPIKE = 30;
 
   private static final double ERROR_RATE_PERCENT_SMOKE = 0.5;
   private static final double ERROR_RATE_PERCENT_BASELINE = 1.0;
   private static final double ERROR_RATE_PERCENT_STRESS = 2.0;
+  private static final double ERROR_RATE_PERCENT_CAPACITY = 1.0;
+  private static final double ERROR_RATE_PERCENT_SOAK = 1.0;
+  private static final double ERROR_RATE_PERCENT_RATE = 1.0;
+  private static final double ERROR_RATE_PERCENT_SPIKE = 1.0;
 
   private LoadProfile() {
     // utility class
   }
 
-  public static OpenInjectionStep[] userInjection(PerfProfile profile, int scale) {
-    int safeScale = Math.max(1, scale);
+  public static OpenInjectionStep[] userInjection(PerfConfig config) {
+    return phases(config).stream()
+        .map(InjectionPhase::toStep)
+        .toArray(OpenInjectionStep[]::new);
+  }
+
+  public static OpenInjectionStep[] userInjection(PerfConfig config, double share) {
+    return userInjection(phases(config), share);
+  }
+
+  public static OpenInjectionStep[] userInjection(List<InjectionPhase> phases, double share) {
+    return phases.stream()
+        .map(phase -> phase.scaled(share).toStep())
+        .toArray(OpenInjectionStep[]::new);
+  }
+
+  public static OpenInjectionStep[] warmupInjection(PerfConfig config, double share) {
+    return warmupInjection(config, phases(config), share);
+  }
+
+  public static OpenInjectionStep[] warmupInjection(PerfConfig config, List<InjectionPhase> phases, double share) {
+    double peakRate = phases.stream()
+        .mapToDouble(InjectionPhase::peakRate)
+        .max()
+        .orElse(1.0);
+    // Ramp up to the measured peak so pools, caches and JIT see the same traffic level before measurement starts.
+    return new OpenInjectionStep[] {new RampRate(0.0, peakRate, config.warmupSeconds()).scaled(share).toStep()};
+  }
+
+  public static List<InjectionPhase> phases(PerfConfig config) {
+    int safeScale = Math.max(1, config.loadScale());
 
+    List<InjectionPhase> phases = switch (config.profile()) {
+      case SMOKE -> List.of(
+          new RampUsers(5 * safeScale, 20),
+          new ConstantRate(2.0 * safeScale, 20)
+      );
+      case BASELINE -> List.of(
+          new RampUsers(20 * safeScale, 60),
+          new ConstantRate(8.0 * safeScale, 120)
+      );
+      case STRESS -> List.of(
+          new RampUsers(60 * safeScale, 120),
+          new ConstantRate(20.0 * safeScale, 180)
+      );
+      case CAPACITY -> capacityPhases(config.capacityPlan().scaled(safeScale));
+      case SOAK -> List.of(
+          new ConstantRate(config.soak().ratePerSec() * safeScale, config.soak().durationMinutes() * 60)
+      );
+      case SPIKE -> spikePhases(config.spike(), safeScale);
+      case RATE -> throw new IllegalArgumentException(
+          "perf.profile=rate derives arrivals from each journey's rate.targets; run it with the auth, account, "
+              + "payment or mixed simulations");
+    };
+    return distributed(config, phases);
+  }
+
+  // Arrivals step up to the rate that produces the target request rate, then hold it.
+  public static List<InjectionPhase> ratePhases(PerfConfig config, double usersPerSec) {
+    RateSettings rate = config.rate();
+    double targetUsersPerSec = usersPerSec * Math.max(1, config.loadScale());
+    List<InjectionPhase> phases = new ArrayList<>();
+    for (int step = 1; step < rate.rampSteps(); step++) {
+      phases.add(new ConstantRate(targetUsersPerSec * step / rate.rampSteps(), rate.stepSeconds()));
+    }
+    phases.add(new ConstantRate(targetUsersPerSec, rate.holdSeconds()));
+    return distributed(config, List.copyOf(phases));
+  }
+
+  // The rate jumps straight to the burst and straight back, leaving the backend no ramp to adapt during.
+  private static List<InjectionPhase> spikePhases(SpikeSettings spike, int scale) {
+    double baseRate = spike.baseRatePerSec() * scale;
+    return List.of(
+        new ConstantRate(baseRate, spike.baselineSeconds()),
+        new ConstantRate(baseRate * spike.multiplier(), spike.burstSeconds()),
+        new ConstantRate(baseRate, spike.recoverySeconds()));
+  }
+
+  public static List<InjectionPhase> capacityPhases(CapacityPlan plan) {
+    List<InjectionPhase> phases = new ArrayList<>();
+    for (int step = 0; step < plan.maxSteps(); step++) {
+      if (step > 0 && plan.rampSeconds() > 0) {
+        phases.add(new RampRate(plan.rateAt(step - 1), plan.rateAt(step), plan.rampSeconds()));
+      }
+      phases.add(new ConstantRate(plan.rateAt(step), plan.holdSeconds()));
+    }
+    return List.copyOf(phases);
+  }
+
+  public static int warmupSeconds(PerfProfile profile) {
     return switch (profile) {
-      case SMOKE -> new OpenInjectionStep[]{
-          rampUsers(5 * safeScale).during(20),
-          constantUsersPerSec(2.0 * safeScale).during(20)
-      };
-      case BASELINE -> new OpenInjectionStep[]{
-          rampUsers(20 * safeScale).during(60),
-          constantUsersPerSec(8.0 * safeScale).during(120)
-      };
-      case STRESS -> new OpenInjectionStep[]{
-          rampUsers(60 * safeScale).during(120),
-          constantUsersPerSec(20.0 * safeScale).during(180)
-      };
+      case SMOKE -> WARMUP_SECONDS_SMOKE;
+      case BASELINE -> WARMUP_SECONDS_BASELINE;
+      case STRESS -> WARMUP_SECONDS_STRESS;
+      // Capacity steps start at a low rate and are judged one by one, so the first step is its warm-up.
+      case CAPACITY -> 0;
+      case SOAK -> WARMUP_SECONDS_SOAK;
+      case RATE -> WARMUP_SECONDS_RATE;
+      case SPIKE -> WARMUP_SECONDS_SPIKE;
     };
   }
 
@@ -43,6 +144,10 @@ public final class LoadProfile {
       case SMOKE -> P95_MS_SMOKE;
       case BASELINE -> P95_MS_BASELINE;
       case STRESS -> P95_MS_STRESS;
+      case CAPACITY -> P95_MS_CAPACITY;
+      case SOAK -> P95_MS_SOAK;
+      case RATE -> P95_MS_RATE;
+      case SPIKE -> P95_MS_SPIKE;
     };
   }
 
@@ -51,6 +156,21 @@ public final class LoadProfile {
       case SMOKE -> ERROR_RATE_PERCENT_SMOKE;
       case BASELINE -> ERROR_RATE_PERCENT_BASELINE;
       case STRESS -> ERROR_RATE_PERCENT_STRESS;
+      case CAPACITY -> ERROR_RATE_PERCENT_CAPACITY;
+      case SOAK -> ERROR_RATE_PERCENT_SOAK;
+      case RATE -> ERROR_RATE_PERCENT_RATE;
+      case SPIKE -> ERROR_RATE_PERCENT_SPIKE;
     };
   }
+
+  private static List<InjectionPhase> distributed(PerfConfig config, List<InjectionPhase> phases) {
+    InjectorSettings injector = config.injector();
+    if (!injector.distributed()) {
+      return phases;
+    }
+    // Each injector process drives an even slice of the profile so the combined arrival rate stays the same.
+    return phases.stream()
+        .map(phase -> phase.scaled(injector.share()))
+        .toList();
+  }
 }
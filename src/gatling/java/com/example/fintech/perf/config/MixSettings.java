@@ -0,0 +1,14 @@
+package com.example.fintech.perf.config;
+
+public record MixSettings(double authWeight, double fundingWeight, double paymentWeight, boolean shareConnections) {
+
+  private static final double DEFAULT_WEIGHT = 1.0;
+
+  static MixSettings from(ConfigSource source) {
+    return new MixSettings(
+        source.readNonNegative("mix.authWeight", "MIX_AUTH_WEIGHT", DEFAULT_WEIGHT),
+        source.readNonNegative("mix.fundingWeight", "MIX_FUNDING_WEIGHT", DEFAULT_WEIGHT),
+        source.readNonNegative("mix.paymentWeight", "MIX_PAYMENT_WEIGHT", DEFAULT_WEIGHT),
+        source.readBoolean("mix.shareConnections", "MIX_SHARE_CONNECTIONS", true));
+  }
+}
@@ -0,0 +1,32 @@
+package com.example.fintech.perf.config;
+
+public record PaymentLoopSettings(int iterations, int durationSeconds, int tokenTtlSeconds, int pacingMs) {
+
+  static PaymentLoopSettings from(ConfigSource source) {
+    return new PaymentLoopSettings(
+        source.readPositive("payment.iterations", "PAYMENT_ITERATIONS", 1),
+        source.readNonNegative("payment.loopSeconds", "PAYMENT_LOOP_SECONDS", 0),
+        source.readNonNegative("auth.tokenTtlSeconds", "AUTH_TOKEN_TTL_SECONDS", 0),
+        source.readNonNegative("payment.pacingMs", "PAYMENT_PACING_MS", 0));
+  }
+
+  public boolean timeBound() {
+    return durationSeconds > 0;
+  }
+
+  public boolean singlePass() {
+    return !timeBound() && iterations <= 1;
+  }
+
+  public boolean paced() {
+    return pacingMs > 0;
+  }
+
+  // A time-bound loop only has a fixed number of iterations when each one is paced to a fixed length.
+  public double iterationsPerJourney() {
+    if (!timeBound()) {
+      return iterations;
+    }
+    return paced() ? Math.ceil(durationSeconds * 1_000.0 / pacingMs) : Double.NaN;
+  }
+}
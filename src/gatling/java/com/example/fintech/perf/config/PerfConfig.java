@@ -1,44 +1,65 @@
 package com.example.fintech.perf.config;
 
-import java.io.InputStream;
-import java.util.Properties;
+import java.nio.file.Path;
 
 public final class PerfConfig {
 
-  private static final String CONFIG_FILE = "application-performance.properties";
-
   private static final String DEFAULT_PROFILE = "smoke";
 
-  private static final String DEFAULT_API_BASE_URL = "http://localhost:8080";
-  private static final int DEFAULT_REQUEST_TIMEOUT_MS = 10_000;
-  private static final int DEFAULT_LOAD_SCALE = 1;
-
-  private static final Properties FILE_PROPERTIES = loadFileProperties();
-
+  private final ConfigSource source;
   private final PerfProfile profile;
-  private final String apiBaseUrl;
-  private final RuntimeTuning runtimeTuning;
-
-  private PerfConfig(
-      PerfProfile profile,
-      String apiBaseUrl,
-      RuntimeTuning runtimeTuning
-  ) {
-    this.profile = profile;
-    this.apiBaseUrl = apiBaseUrl;
-    this.runtimeTuning = runtimeTuning;
+  private final StubSettings stub;
+  private final RunSettings run;
+  private final AccountPoolSettings accountPool;
+  private final PaymentLoopSettings paymentLoop;
+  private final RateSettings rate;
+  private final SpikeSettings spike;
+  private final ThinkTimeSettings thinkTime;
+  private final LiveMetricsSettings liveMetrics;
+  private final ResourceSamplingSettings resourceSampling;
+  private final RegressionSettings regression;
+  private final CapacityPlan capacityPlan;
+  private final SoakSettings soak;
+  private final HotspotSettings hotspot;
+  private final MixSettings mix;
+  private final HistorySettings history;
+  private final ReplaySettings replay;
+  private final InjectorSettings injector;
+  private final InjectorHealthSettings injectorHealth;
+  private final ValidationSettings validation;
+  private final ScalabilitySettings scalability;
+  private final ConnectionSettings connection;
+  private final FailFastSettings failFast;
+
+  private PerfConfig(ConfigSource source) {
+    this.source = source;
+    this.profile = PerfProfile.from(source.read("perf.profile", "PERF_PROFILE", DEFAULT_PROFILE));
+    this.stub = StubSettings.from(source);
+    this.run = RunSettings.from(source, profile, stub);
+    this.accountPool = AccountPoolSettings.from(source);
+    this.paymentLoop = PaymentLoopSettings.from(source);
+    this.rate = RateSettings.from(source);
+    this.spike = SpikeSettings.from(source);
+    this.thinkTime = ThinkTimeSettings.from(source);
+    this.liveMetrics = LiveMetricsSettings.from(source);
+    this.resourceSampling = ResourceSamplingSettings.from(source);
+    this.regression = RegressionSettings.from(source);
+    this.capacityPlan = CapacityPlan.from(source);
+    this.soak = SoakSettings.from(source);
+    this.hotspot = HotspotSettings.from(source);
+    this.mix = MixSettings.from(source);
+    this.history = HistorySettings.from(source);
+    this.replay = ReplaySettings.from(source);
+    this.injector = InjectorSettings.from(source);
+    this.injectorHealth = InjectorHealthSettings.from(source);
+    this.validation = ValidationSettings.from(source);
+    this.scalability = ScalabilitySettings.from(source);
+    this.connection = ConnectionSettings.from(source);
+    this.failFast = FailFastSettings.from(source, run.requestTimeoutMs());
   }
 
   public static PerfConfig load() {
-    PerfProfile profile = PerfProfile.from(read(Keys.PROFILE, Envs.PROFILE, DEFAULT_PROFILE));
-    String apiBaseUrl = read(Keys.API_BASE_URL, Envs.API_BASE_URL, DEFAULT_API_BASE_URL);
-    int timeoutMs = readInt(Keys.HTTP_TIMEOUT_MS, Envs.HTTP_TIMEOUT_MS, DEFAULT_REQUEST_TIMEOUT_MS);
-    int loadScale = readInt(Keys.LOAD_SCALE, Envs.LOAD_SCALE, DEFAULT_LOAD_SCALE);
-    RuntimeTuning runtimeTuning = new RuntimeTuning(
-        timeoutMs,
-        sanitizePositive(loadScale, DEFAULT_LOAD_SCALE));
-
-    return new PerfConfig(profile, apiBaseUrl, runtimeTuning);
+    return new PerfConfig(ConfigSource.classpath());
   }
 
   public PerfProfile profile() {
@@ -46,95 +67,118 @@ public final class PerfConfig {
   }
 
   public String apiBaseUrl() {
-    return apiBaseUrl;
+    return run.apiBaseUrl();
   }
 
   public int requestTimeoutMs() {
-    return runtimeTuning.requestTimeoutMs();
+    return run.requestTimeoutMs();
   }
 
   public int loadScale() {
-    return runtimeTuning.loadScale();
+    return run.loadScale();
+  }
+
+  public int warmupSeconds() {
+    return run.warmupSeconds();
+  }
+
+  public AccountPoolSettings accountPool() {
+    return accountPool;
+  }
+
+  public PaymentLoopSettings paymentLoop() {
+    return paymentLoop;
+  }
+
+  public RateSettings rate() {
+    return rate;
+  }
+
+  public SpikeSettings spike() {
+    return spike;
+  }
+
+  public ThinkTimeSettings thinkTime() {
+    return thinkTime;
+  }
+
+  public Path resultsDir() {
+    return run.resultsDir();
+  }
+
+  public boolean coordinatedOmissionCorrection() {
+    return run.coordinatedOmissionCorrection();
+  }
+
+  public LiveMetricsSettings liveMetrics() {
+    return liveMetrics;
+  }
+
+  public ResourceSamplingSettings resourceSampling() {
+    return resourceSampling;
   }
 
-  private static String read(String systemProperty, String envVar, String defaultValue) {
-    String value = readOptional(systemProperty, envVar);
-    return value == null ? defaultValue : value.trim();
+  public String gitCommit() {
+    return run.gitCommit();
   }
 
-  private static int readInt(String systemProperty, String envVar, int defaultValue) {
-    String defaultValueText = String.valueOf(defaultValue);
-    String value = read(systemProperty, envVar, defaultValueText);
-    return parseInt(value, defaultValue);
+  public RegressionSettings regression() {
+    return regression;
   }
 
-  private static String readOptional(String systemProperty, String envVar) {
-    String fromSystemProperty = System.getProperty(systemProperty);
-    if (fromSystemProperty != null && !fromSystemProperty.isBlank()) {
-      return fromSystemProperty;
-    }
+  public CapacityPlan capacityPlan() {
+    return capacityPlan;
+  }
 
-    String fromEnv = System.getenv(envVar);
-    if (fromEnv != null && !fromEnv.isBlank()) {
-      return fromEnv;
-    }
+  public SoakSettings soak() {
+    return soak;
+  }
 
-    String fromFile = FILE_PROPERTIES.getProperty(systemProperty);
-    if (fromFile != null && !fromFile.isBlank()) {
-      return fromFile;
-    }
+  public HotspotSettings hotspot() {
+    return hotspot;
+  }
 
-    return null;
+  public MixSettings mix() {
+    return mix;
   }
 
-  private static int parseInt(String value, int defaultValue) {
-    try {
-      return Integer.parseInt(value.trim());
-    } catch (NumberFormatException exception) {
-      return defaultValue;
-    }
+  public HistorySettings history() {
+    return history;
   }
 
-  private static int sanitizePositive(int value, int defaultValue) {
-    return value > 0 ? value : defaultValue;
+  public ReplaySettings replay() {
+    return replay;
   }
 
-  private static Properties loadFileProperties() {
-    Properties properties = new Properties();
+  public InjectorSettings injector() {
+    return injector;
+  }
 
-    try (InputStream input = PerfConfig.class.getClassLoader().getResourceAsStream(CONFIG_FILE)) {
-      if (input != null) {
-        properties.load(input);
-      }
-    } catch (Exception ignored) {
-      // Keep defaults/overrides behavior if the file is absent or unreadable.
-    }
+  public InjectorHealthSettings injectorHealth() {
+    return injectorHealth;
+  }
 
-    return properties;
+  public ValidationSettings validation() {
+    return validation;
   }
 
-  private static final class Keys {
-    private static final String PROFILE = "perf.profile";
-    private static final String API_BASE_URL = "api.baseUrl";
-    private static final String HTTP_TIMEOUT_MS = "http.timeoutMs";
-    private static final String LOAD_SCALE = "perf.scale";
+  public ScalabilitySettings scalability() {
+    return scalability;
+  }
 
-    private Keys() {
-      // constants holder
-    }
+  public ConnectionSettings connection() {
+    return connection;
   }
 
-  private static final class Envs {
-    private static final String PROFILE = "PERF_PROFILE";
-    private static final String API_BASE_URL = "API_BASE_URL";
-    private static final String HTTP_TIMEOUT_MS = "HTTP_TIMEOUT_MS";
-    private static final String LOAD_SCALE = "PERF_SCALE";
+  public FailFastSettings failFast() {
+    return failFast;
+  }
 
-    private Envs() {
-      // constants holder
-    }
+  public StubSettings stub() {
+    return stub;
   }
 
-  private record RuntimeTuning(int requestTimeoutMs, int loadScale) {
+  public SloLimits slo(String scope) {
+    return SloLimits.from(source, profile, scope);
   }
 }
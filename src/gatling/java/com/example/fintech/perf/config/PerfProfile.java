@@ -3,7 +3,11 @@ package com.example.fintech.perf.config;
 public enum PerfProfile {
   SMOKE,
   BASELINE,
-  STRESS;
+  STRESS,
+  CAPACITY,
+  SOAK,
+  RATE,
+  SPIKE;
 
   public static PerfProfile from(String value) {
     if (value == null || value.isBlank()) {
@@ -14,8 +18,12 @@ public enum PerfProfile {
       case "smoke" -> SMOKE;
       case "baseline" -> BASELINE;
       case "stress" -> STRESS;
+      case "capacity" -> CAPACITY;
+      case "soak" -> SOAK;
+      case "rate" -> RATE;
+      case "spike" -> SPIKE;
       default -> throw new IllegalArgumentException(
-          "Unsupported perf.profile: " + value + ". Supported: smoke|baseline|stress");
+          "Unsupported perf.profile: " + value + ". Supported: smoke|baseline|stress|capacity|soak|rate|spike");
     };
   }
 }
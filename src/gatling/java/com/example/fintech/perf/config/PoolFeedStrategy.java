@@ -0,0 +1,21 @@
+package com.example.fintech.perf.config;
+
+public enum PoolFeedStrategy {
+  CIRCULAR,
+  RANDOM,
+  QUEUE;
+
+  public static PoolFeedStrategy from(String value) {
+    if (value == null || value.isBlank()) {
+      return CIRCULAR;
+    }
+
+    return switch (value.trim().toLowerCase()) {
+      case "circular" -> CIRCULAR;
+      case "random" -> RANDOM;
+      case "queue" -> QUEUE;
+      default -> throw new IllegalArgumentException(
+          "Unsupported pool.strategy: " + value + ". Supported: circular|random|queue");
+    };
+  }
+}
@@ -0,0 +1,50 @@
+package com.example.fintech.perf.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public record RateSettings(
+    Map<String, Double> targets,
+    int rampSteps,
+    int stepSeconds,
+    int holdSeconds
+) {
+
+  private static final int DEFAULT_RAMP_STEPS = 4;
+  private static final int DEFAULT_STEP_SECONDS = 30;
+  private static final int DEFAULT_HOLD_SECONDS = 180;
+
+  static RateSettings from(ConfigSource source) {
+    return new RateSettings(
+        parseTargets(source.read("rate.targets", "RATE_TARGETS", "")),
+        source.readPositive("rate.rampSteps", "RATE_RAMP_STEPS", DEFAULT_RAMP_STEPS),
+        source.readPositive("rate.stepSeconds", "RATE_STEP_SECONDS", DEFAULT_STEP_SECONDS),
+        source.readPositive("rate.holdSeconds", "RATE_HOLD_SECONDS", DEFAULT_HOLD_SECONDS));
+  }
+
+  public Double target(String requestName) {
+    return targets.get(requestName);
+  }
+
+  private static Map<String, Double> parseTargets(String value) {
+    Map<String, Double> targets = new HashMap<>();
+    for (String entry : value.split(",")) {
+      if (entry.isBlank()) {
+        continue;
+      }
+      String[] parts = entry.split("=", 2);
+      try {
+        double target = parts.length == 2 ? Double.parseDouble(parts[1].trim()) : 0.0;
+        if (target > 0) {
+          targets.put(parts[0].trim(), target);
+          continue;
+        }
+      } catch (NumberFormatException ignored) {
+        // reported below
+      }
+      throw new IllegalArgumentException(
+          "Malformed rate.targets entry: " + entry.trim() + ". Expected <request name>=<requests per second>");
+    }
+    return Map.copyOf(targets);
+  }
+}
@@ -0,0 +1,39 @@
+package com.example.fintech.perf.config;
+
+public record RegressionSettings(
+    String baseline,
+    String simulation,
+    double latencyTolerancePercent,
+    double errorRateTolerancePercent,
+    double significance
+) {
+
+  public static final String PREVIOUS_RUN = "previous";
+
+  private static final double DEFAULT_LATENCY_TOLERANCE_PERCENT = 10.0;
+  private static final double DEFAULT_ERROR_RATE_TOLERANCE_PERCENT = 0.5;
+  private static final double DEFAULT_SIGNIFICANCE = 0.01;
+
+  static RegressionSettings from(ConfigSource source) {
+    return new RegressionSettings(
+        source.read("regression.baseline", "REGRESSION_BASELINE", PREVIOUS_RUN),
+        source.read("regression.simulation", "REGRESSION_SIMULATION", ""),
+        source.readNonNegative(
+            "regression.latencyTolerancePercent",
+            "REGRESSION_LATENCY_TOLERANCE_PERCENT",
+            DEFAULT_LATENCY_TOLERANCE_PERCENT),
+        source.readNonNegative(
+            "regression.errorRateTolerancePercent",
+            "REGRESSION_ERROR_RATE_TOLERANCE_PERCENT",
+            DEFAULT_ERROR_RATE_TOLERANCE_PERCENT),
+        source.readPositive("regression.significance", "REGRESSION_SIGNIFICANCE", DEFAULT_SIGNIFICANCE));
+  }
+
+  public boolean comparesPreviousRun() {
+    return PREVIOUS_RUN.equalsIgnoreCase(baseline);
+  }
+
+  public boolean includes(String simulationName) {
+    return simulation.isBlank() || simulation.equalsIgnoreCase(simulationName);
+  }
+}
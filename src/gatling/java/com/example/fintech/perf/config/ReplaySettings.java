@@ -0,0 +1,20 @@
+package com.example.fintech.perf.config;
+
+import java.nio.file.Path;
+
+public record ReplaySettings(Path file, double speedup, int concurrency, int lateThresholdMs, long startAtMs) {
+
+  private static final String DEFAULT_FILE = ".perf-data/replay.jsonl";
+  private static final double DEFAULT_SPEEDUP = 1.0;
+  private static final int DEFAULT_CONCURRENCY = 50;
+  private static final int DEFAULT_LATE_THRESHOLD_MS = 100;
+
+  static ReplaySettings from(ConfigSource source) {
+    return new ReplaySettings(
+        Path.of(source.read("replay.file", "REPLAY_FILE", DEFAULT_FILE)),
+        source.readPositive("replay.speedup", "REPLAY_SPEEDUP", DEFAULT_SPEEDUP),
+        source.readPositive("replay.concurrency", "REPLAY_CONCURRENCY", DEFAULT_CONCURRENCY),
+        source.readNonNegative("replay.lateThresholdMs", "REPLAY_LATE_THRESHOLD_MS", DEFAULT_LATE_THRESHOLD_MS),
+        Math.max(0L, source.readLong("replay.startAtMs", "REPLAY_START_AT_MS", 0L)));
+  }
+}
@@ -0,0 +1,20 @@
+package com.example.fintech.perf.config;
+
+public record ResourceSamplingSettings(boolean enabled, int intervalSeconds, String actuatorPath, int timeoutMs) {
+
+  private static final int DEFAULT_INTERVAL_SECONDS = 5;
+  private static final String DEFAULT_ACTUATOR_PATH = "/actuator";
+  private static final int DEFAULT_TIMEOUT_MS = 2_000;
+
+  static ResourceSamplingSettings from(ConfigSource source) {
+    return new ResourceSamplingSettings(
+        source.readBoolean("resources.enabled", "RESOURCES_ENABLED", true),
+        source.readPositive("resources.intervalSeconds", "RESOURCES_INTERVAL_SECONDS", DEFAULT_INTERVAL_SECONDS),
+        source.read("resources.actuatorPath", "RESOURCES_ACTUATOR_PATH", DEFAULT_ACTUATOR_PATH),
+        source.readPositive("resources.timeoutMs", "RESOURCES_TIMEOUT_MS", DEFAULT_TIMEOUT_MS));
+  }
+
+  public long intervalMs() {
+    return intervalSeconds * 1_000L;
+  }
+}
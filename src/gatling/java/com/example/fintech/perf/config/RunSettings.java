@@ -0,0 +1,39 @@
+package com.example.fintech.perf.config;
+
+import java.nio.file.Path;
+
+public record RunSettings(
+    String apiBaseUrl,
+    int requestTimeoutMs,
+    int loadScale,
+    int warmupSeconds,
+    Path resultsDir,
+    boolean coordinatedOmissionCorrection,
+    String gitCommit
+) {
+
+  private static final String DEFAULT_API_BASE_URL = "http://localhost:8080";
+  private static final int DEFAULT_REQUEST_TIMEOUT_MS = 10_000;
+  private static final int DEFAULT_LOAD_SCALE = 1;
+  private static final String DEFAULT_RESULTS_DIR = "build/perf-results";
+  private static final String UNKNOWN_GIT_COMMIT = "unknown";
+
+  static RunSettings from(ConfigSource source, PerfProfile profile, StubSettings stub) {
+    String apiBaseUrl = stub.enabled()
+        ? stub.baseUrl()
+        : source.read("api.baseUrl", "API_BASE_URL", DEFAULT_API_BASE_URL);
+    // A profile-specific warm-up wins over one that applies to every profile.
+    String warmup = source.readForProfile(profile, "warmup.", "seconds");
+    return new RunSettings(
+        apiBaseUrl,
+        source.readInt("http.timeoutMs", "HTTP_TIMEOUT_MS", DEFAULT_REQUEST_TIMEOUT_MS),
+        source.readPositive("perf.scale", "PERF_SCALE", DEFAULT_LOAD_SCALE),
+        Math.max(0, warmup == null
+            ? LoadProfile.warmupSeconds(profile)
+            : ConfigSource.parseInt(warmup, LoadProfile.warmupSeconds(profile))),
+        Path.of(source.read("perf.resultsDir", "PERF_RESULTS_DIR", DEFAULT_RESULTS_DIR)),
+        source.readBoolean("latency.coCorrection", "LATENCY_CO_CORRECTION", true),
+        // The build resolves the commit once and passes it down, so loading the configuration starts no processes.
+        source.read("perf.gitCommit", "GIT_COMMIT", UNKNOWN_GIT_COMMIT).trim());
+  }
+}
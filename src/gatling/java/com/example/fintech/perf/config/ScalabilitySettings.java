@@ -0,0 +1,16 @@
+package com.example.fintech.perf.config;
+
+public record ScalabilitySettings(String sweepId, int curvePoints) {
+
+  private static final int DEFAULT_CURVE_POINTS = 64;
+
+  static ScalabilitySettings from(ConfigSource source) {
+    return new ScalabilitySettings(
+        source.read("scalability.sweepId", "SCALABILITY_SWEEP_ID", "").trim().replace(",", ""),
+        source.readPositive("scalability.curvePoints", "SCALABILITY_CURVE_POINTS", DEFAULT_CURVE_POINTS));
+  }
+
+  public boolean sweeping() {
+    return !sweepId.isBlank();
+  }
+}
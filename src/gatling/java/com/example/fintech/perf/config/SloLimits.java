@@ -0,0 +1,54 @@
+package com.example.fintech.perf.config;
+
+public record SloLimits(
+    Integer p50Ms,
+    Integer p95Ms,
+    Integer p99Ms,
+    Integer maxMs,
+    Double maxErrorRatePercent
+) {
+
+  public static final String GLOBAL = "global";
+
+  private static final String PREFIX = "slo.";
+
+  static SloLimits from(ConfigSource source, PerfProfile profile, String scope) {
+    boolean global = GLOBAL.equals(scope);
+    Integer defaultP95Ms = global ? LoadProfile.p95Ms(profile) : null;
+    Double defaultErrorRatePercent = global ? LoadProfile.maxErrorRatePercent(profile) : null;
+    return new SloLimits(
+        readInt(source, profile, scope + ".p50Ms", null),
+        readInt(source, profile, scope + ".p95Ms", defaultP95Ms),
+        readInt(source, profile, scope + ".p99Ms", null),
+        readInt(source, profile, scope + ".maxMs", null),
+        readDouble(source, profile, scope + ".errorRatePercent", defaultErrorRatePercent));
+  }
+
+  public boolean isEmpty() {
+    return p50Ms == null && p95Ms == null && p99Ms == null && maxMs == null && maxErrorRatePercent == null;
+  }
+
+  private static Integer readInt(ConfigSource source, PerfProfile profile, String name, Integer defaultValue) {
+    String value = source.readForProfile(profile, PREFIX, name);
+    if (value == null) {
+      return defaultValue;
+    }
+    try {
+      return Integer.valueOf(value.trim());
+    } catch (NumberFormatException exception) {
+      return defaultValue;
+    }
+  }
+
+  private static Double readDouble(ConfigSource source, PerfProfile profile, String name, Double defaultValue) {
+    String value = source.readForProfile(profile, PREFIX, name);
+    if (value == null) {
+      return defaultValue;
+    }
+    try {
+      return Double.valueOf(value.trim());
+    } catch (NumberFormatException exception) {
+      return defaultValue;
+    }
+  }
+}
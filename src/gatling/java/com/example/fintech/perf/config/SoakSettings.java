@@ -0,0 +1,45 @@
+package com.example.fintech.perf.config;
+
+public record SoakSettings(
+    int durationMinutes,
+    double ratePerSec,
+    int windowSeconds,
+    int evaluateAfterMinutes,
+    double maxLatencyDriftPercentPerHour,
+    double maxThroughputDecayPercentPerHour
+) {
+
+  private static final int DEFAULT_DURATION_MINUTES = 240;
+  private static final double DEFAULT_RATE_PER_SEC = 8.0;
+  private static final int DEFAULT_WINDOW_SECONDS = 60;
+  private static final int DEFAULT_EVALUATE_AFTER_MINUTES = 60;
+  private static final double DEFAULT_MAX_LATENCY_DRIFT_PERCENT_PER_HOUR = 10.0;
+  private static final double DEFAULT_MAX_THROUGHPUT_DECAY_PERCENT_PER_HOUR = 5.0;
+
+  static SoakSettings from(ConfigSource source) {
+    return new SoakSettings(
+        source.readPositive("soak.durationMinutes", "SOAK_DURATION_MINUTES", DEFAULT_DURATION_MINUTES),
+        source.readPositive("soak.ratePerSec", "SOAK_RATE_PER_SEC", DEFAULT_RATE_PER_SEC),
+        source.readPositive("soak.windowSeconds", "SOAK_WINDOW_SECONDS", DEFAULT_WINDOW_SECONDS),
+        source.readNonNegative(
+            "soak.evaluateAfterMinutes",
+            "SOAK_EVALUATE_AFTER_MINUTES",
+            DEFAULT_EVALUATE_AFTER_MINUTES),
+        source.readNonNegative(
+            "soak.maxLatencyDriftPercentPerHour",
+            "SOAK_MAX_LATENCY_DRIFT_PERCENT_PER_HOUR",
+            DEFAULT_MAX_LATENCY_DRIFT_PERCENT_PER_HOUR),
+        source.readNonNegative(
+            "soak.maxThroughputDecayPercentPerHour",
+            "SOAK_MAX_THROUGHPUT_DECAY_PERCENT_PER_HOUR",
+            DEFAULT_MAX_THROUGHPUT_DECAY_PERCENT_PER_HOUR));
+  }
+
+  public long windowMs() {
+    return windowSeconds * 1_000L;
+  }
+
+  public long evaluateAfterMs() {
+    return evaluateAfterMinutes * 60_000L;
+  }
+}
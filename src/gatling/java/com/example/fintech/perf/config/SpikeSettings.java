@@ -0,0 +1,71 @@
+package com.example.fintech.perf.config;
+
+import java.util.List;
+
+public record SpikeSettings(
+    double baseRatePerSec,
+    double multiplier,
+    int baselineSeconds,
+    int burstSeconds,
+    int recoverySeconds,
+    int windowSeconds,
+    double tolerancePercent,
+    int toleranceMs,
+    int maxRecoverySeconds,
+    List<String> requests
+) {
+
+  private static final double DEFAULT_BASE_RATE_PER_SEC = 5.0;
+  private static final double DEFAULT_MULTIPLIER = 5.0;
+  private static final int DEFAULT_BASELINE_SECONDS = 120;
+  private static final int DEFAULT_BURST_SECONDS = 30;
+  private static final int DEFAULT_RECOVERY_SECONDS = 180;
+  private static final int DEFAULT_WINDOW_SECONDS = 5;
+  private static final double DEFAULT_TOLERANCE_PERCENT = 20.0;
+  private static final int DEFAULT_TOLERANCE_MS = 10;
+  private static final int DEFAULT_MAX_RECOVERY_SECONDS = 60;
+  private static final String DEFAULT_REQUESTS = "payment.transfer,funding.account.balance";
+
+  static SpikeSettings from(ConfigSource source) {
+    int windowSeconds = source.readPositive("spike.windowSeconds", "SPIKE_WINDOW_SECONDS", DEFAULT_WINDOW_SECONDS);
+    int maxRecoverySeconds = source.readPositive(
+        "spike.maxRecoverySeconds",
+        "SPIKE_MAX_RECOVERY_SECONDS",
+        DEFAULT_MAX_RECOVERY_SECONDS);
+    return new SpikeSettings(
+        source.readPositive("spike.baseRatePerSec", "SPIKE_BASE_RATE_PER_SEC", DEFAULT_BASE_RATE_PER_SEC),
+        Math.max(1.0, source.readDouble("spike.multiplier", "SPIKE_MULTIPLIER", DEFAULT_MULTIPLIER)),
+        source.readPositive("spike.baselineSeconds", "SPIKE_BASELINE_SECONDS", DEFAULT_BASELINE_SECONDS),
+        source.readPositive("spike.burstSeconds", "SPIKE_BURST_SECONDS", DEFAULT_BURST_SECONDS),
+        // The run must outlast the recovery limit, or a backend that never recovers would pass by running out.
+        Math.max(
+            source.readInt("spike.recoverySeconds", "SPIKE_RECOVERY_SECONDS", DEFAULT_RECOVERY_SECONDS),
+            maxRecoverySeconds + 3 * windowSeconds),
+        windowSeconds,
+        source.readNonNegative("spike.tolerancePercent", "SPIKE_TOLERANCE_PERCENT", DEFAULT_TOLERANCE_PERCENT),
+        source.readNonNegative("spike.toleranceMs", "SPIKE_TOLERANCE_MS", DEFAULT_TOLERANCE_MS),
+        maxRecoverySeconds,
+        ConfigSource.parseNames(source.read("spike.requests", "SPIKE_REQUESTS", DEFAULT_REQUESTS)));
+  }
+
+  public long windowMs() {
+    return windowSeconds * 1_000L;
+  }
+
+  public long burstStartMs() {
+    return baselineSeconds * 1_000L;
+  }
+
+  public long burstEndMs() {
+    return (baselineSeconds + burstSeconds) * 1_000L;
+  }
+
+  public long maxRecoveryMs() {
+    return maxRecoverySeconds * 1_000L;
+  }
+
+  // The p95 a window may reach and still count as back to the pre-spike baseline.
+  public long recoveredP95Ms(long baselineP95Ms) {
+    return baselineP95Ms + Math.max(Math.round(baselineP95Ms * tolerancePercent / 100.0), toleranceMs);
+  }
+}
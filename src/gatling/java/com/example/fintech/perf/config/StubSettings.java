@@ -0,0 +1,25 @@
+package com.example.fintech.perf.config;
+
+public record StubSettings(
+    boolean enabled,
+    int port,
+    int latencyMs,
+    int latencyJitterMs,
+    double errorRatePercent
+) {
+
+  private static final int DEFAULT_PORT = 18080;
+
+  static StubSettings from(ConfigSource source) {
+    return new StubSettings(
+        source.readBoolean("stub.enabled", "STUB_ENABLED", false),
+        source.readPositive("stub.port", "STUB_PORT", DEFAULT_PORT),
+        source.readNonNegative("stub.latencyMs", "STUB_LATENCY_MS", 0),
+        source.readNonNegative("stub.latencyJitterMs", "STUB_LATENCY_JITTER_MS", 0),
+        source.readNonNegative("stub.errorRatePercent", "STUB_ERROR_RATE_PERCENT", 0.0));
+  }
+
+  public String baseUrl() {
+    return "http://localhost:" + port;
+  }
+}
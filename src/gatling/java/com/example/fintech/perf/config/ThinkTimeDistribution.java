@@ -0,0 +1,23 @@
+package com.example.fintech.perf.config;
+
+public enum ThinkTimeDistribution {
+  CONSTANT,
+  UNIFORM,
+  EXPONENTIAL,
+  LOG_NORMAL;
+
+  public static ThinkTimeDistribution from(String value) {
+    if (value == null || value.isBlank()) {
+      return CONSTANT;
+    }
+
+    return switch (value.trim().toLowerCase()) {
+      case "constant" -> CONSTANT;
+      case "uniform" -> UNIFORM;
+      case "exponential" -> EXPONENTIAL;
+      case "lognormal", "log-normal" -> LOG_NORMAL;
+      default -> throw new IllegalArgumentException(
+          "Unsupported think.distribution: " + value + ". Supported: constant|uniform|exponential|lognormal");
+    };
+  }
+}
@@ -0,0 +1,36 @@
+package com.example.fintech.perf.config;
+
+public record ThinkTimeSettings(
+    ThinkTimeDistribution distribution,
+    int meanMs,
+    int stdDevMs
+) {
+
+  static ThinkTimeSettings from(ConfigSource source) {
+    return new ThinkTimeSettings(
+        ThinkTimeDistribution.from(source.read("think.distribution", "THINK_DISTRIBUTION", "constant")),
+        source.readNonNegative("think.meanMs", "THINK_MEAN_MS", 0),
+        source.readNonNegative("think.stdDevMs", "THINK_STD_DEV_MS", 0));
+  }
+
+  public boolean enabled() {
+    return meanMs > 0;
+  }
+
+  // Capped at the mean so the range never needs clamping at 0, which would shift the sampled mean upwards.
+  public int uniformHalfWidthMs() {
+    return Math.min(meanMs, stdDevMs);
+  }
+
+  public String describe() {
+    if (!enabled()) {
+      return "none";
+    }
+    return switch (distribution) {
+      case CONSTANT -> meanMs + "ms";
+      case UNIFORM -> "uniform " + (meanMs - uniformHalfWidthMs()) + "-" + (meanMs + uniformHalfWidthMs()) + "ms";
+      case EXPONENTIAL -> "exponential mean " + meanMs + "ms";
+      case LOG_NORMAL -> "lognormal mean " + meanMs + "ms sd " + stdDevMs + "ms";
+    };
+  }
+}
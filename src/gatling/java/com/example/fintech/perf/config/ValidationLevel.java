@@ -0,0 +1,21 @@
+package com.example.fintech.perf.config;
+
+public enum ValidationLevel {
+  FULL,
+  SAMPLED,
+  STATUS_ONLY;
+
+  public static ValidationLevel from(String value) {
+    if (value == null || value.isBlank()) {
+      return FULL;
+    }
+
+    return switch (value.trim().toLowerCase()) {
+      case "full" -> FULL;
+      case "sampled" -> SAMPLED;
+      case "status", "status-only" -> STATUS_ONLY;
+      default -> throw new IllegalArgumentException(
+          "Unsupported validation.level: " + value + ". Supported: full|sampled|status-only");
+    };
+  }
+}
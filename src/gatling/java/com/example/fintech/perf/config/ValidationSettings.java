@@ -0,0 +1,28 @@
+package com.example.fintech.perf.config;
+
+import java.util.Locale;
+
+public record ValidationSettings(
+    ValidationLevel level,
+    double samplePercent
+) {
+
+  private static final double DEFAULT_SAMPLE_PERCENT = 10.0;
+
+  static ValidationSettings from(ConfigSource source) {
+    return new ValidationSettings(
+        ValidationLevel.from(source.read("validation.level", "VALIDATION_LEVEL", "full")),
+        Math.min(100.0, source.readNonNegative(
+            "validation.samplePercent",
+            "VALIDATION_SAMPLE_PERCENT",
+            DEFAULT_SAMPLE_PERCENT)));
+  }
+
+  public String describe() {
+    return switch (level) {
+      case FULL -> "full";
+      case SAMPLED -> String.format(Locale.ROOT, "sampled %.1f%%", samplePercent);
+      case STATUS_ONLY -> "status-only";
+    };
+  }
+}
@@ -1,8 +1,11 @@
 package com.example.fintech.perf.constants;
 
+import com.example.fintech.perf.util.BodyTemplate;
+
 public final class RequestBodyTemplates {
 
   public static final String AUTH_BODY_USERNAME_PASSWORD = auth("username", "password");
+  public static final BodyTemplate AUTH_BODY_TEMPLATE = BodyTemplate.compile(AUTH_BODY_USERNAME_PASSWORD);
 
   private RequestBodyTemplates() {
     // utility class
@@ -39,4 +39,57 @@ public final class RequestNames {
       // constants holder
     }
   }
+
+  public static final class Hotspot {
+    public static final String PAYER_LOGIN = "hotspot.payer.login";
+    public static final String TRANSFER = "hotspot.transfer";
+
+    private Hotspot() {
+      // constants holder
+    }
+  }
+
+  public static final class History {
+    public static final String PREP_PAYER_REGISTER = "history.prep.payer.register";
+    public static final String PREP_PAYEE_REGISTER = "history.prep.payee.register";
+    public static final String PREP_LOGIN = "history.prep.login";
+    public static final String PREP_FUND = "history.prep.fund";
+    public static final String PREP_TRANSFER = "history.prep.transfer";
+    public static final String LOGIN = "history.login";
+
+    private History() {
+      // constants holder
+    }
+
+    public static String transactions(int historySize) {
+      return "history.transactions.size" + historySize;
+    }
+
+    public static String balance(int historySize) {
+      return "history.balance.size" + historySize;
+    }
+  }
+
+  public static final class Replay {
+    public static final String REGISTER = "replay.auth.register";
+    public static final String LOGIN = "replay.auth.login";
+    public static final String FUND = "replay.account.fund";
+    public static final String BALANCE = "replay.account.balance";
+    public static final String TRANSFER = "replay.transfer";
+    public static final String TRANSACTIONS = "replay.transactions";
+
+    private Replay() {
+      // constants holder
+    }
+  }
+
+  public static final class Seed {
+    public static final String REGISTER = "seed.auth.register";
+    public static final String LOGIN = "seed.auth.login";
+    public static final String FUND = "seed.account.fund";
+
+    private Seed() {
+      // constants holder
+    }
+  }
 }
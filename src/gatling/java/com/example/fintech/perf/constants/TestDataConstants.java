@@ -5,6 +5,7 @@ public final class TestDataConstants {
   public static final String DEFAULT_PASSWORD = "password";
   public static final String DEFAULT_FUND_AMOUNT = "100.00";
   public static final String DEFAULT_PAYMENT_AMOUNT = "40.00";
+  public static final String OPEN_ENDED_FUND_AMOUNT = "1000000.00";
 
   private TestDataConstants() {
     // utility class
@@ -0,0 +1,135 @@
+package com.example.fintech.perf.data;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public final class AccountPool {
+
+  private static final String HEADER = "accountId,username,password";
+  private static final String TARGET_PREFIX = "# apiBaseUrl=";
+  private static final String SEPARATOR = ",";
+
+  private AccountPool() {
+    // utility class
+  }
+
+  // Accounts only exist on the backend they were seeded against, so a pool for another target fails here
+  // rather than as a run full of failed logins.
+  public static List<PooledAccount> load(Path file, String apiBaseUrl) {
+    if (!Files.exists(file)) {
+      throw new IllegalStateException(
+          "Account pool " + file.toAbsolutePath() + " does not exist. Run ./gradlew perfSeedAccounts first");
+    }
+    requireTarget(file, apiBaseUrl);
+
+    List<PooledAccount> accounts = new ArrayList<>();
+    try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+      lines.filter(AccountPool::isAccountLine)
+          .map(AccountPool::parse)
+          .forEach(accounts::add);
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to read account pool " + file, exception);
+    }
+
+    if (accounts.isEmpty()) {
+      throw new IllegalStateException("Account pool " + file.toAbsolutePath() + " is empty");
+    }
+    return List.copyOf(accounts);
+  }
+
+  public static int count(Path file, String apiBaseUrl) {
+    if (!Files.exists(file)) {
+      return 0;
+    }
+    requireTarget(file, apiBaseUrl);
+
+    try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+      return (int) lines.filter(AccountPool::isAccountLine).count();
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to read account pool " + file, exception);
+    }
+  }
+
+  public static boolean seededAgainst(Path file, String apiBaseUrl) {
+    return Files.exists(file) && normalize(apiBaseUrl).equals(target(file));
+  }
+
+  public static void append(Path file, String apiBaseUrl, Collection<PooledAccount> accounts) {
+    if (accounts.isEmpty()) {
+      return;
+    }
+
+    try {
+      Path parent = file.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      boolean writeHeader = !Files.exists(file) || Files.size(file) == 0;
+
+      try (BufferedWriter writer = Files.newBufferedWriter(
+          file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+        if (writeHeader) {
+          writer.write(TARGET_PREFIX + normalize(apiBaseUrl));
+          writer.newLine();
+          writer.write(HEADER);
+          writer.newLine();
+        }
+        for (PooledAccount account : accounts) {
+          writer.write(account.accountId() + SEPARATOR + account.username() + SEPARATOR + account.password());
+          writer.newLine();
+        }
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to write account pool " + file, exception);
+    }
+  }
+
+  private static void requireTarget(Path file, String apiBaseUrl) {
+    String target = target(file);
+    if (target == null) {
+      throw new IllegalStateException("Account pool " + file.toAbsolutePath()
+          + " does not record the api.baseUrl it was seeded against. Delete it and run ./gradlew perfSeedAccounts");
+    }
+    if (!target.equals(normalize(apiBaseUrl))) {
+      throw new IllegalStateException("Account pool " + file.toAbsolutePath() + " was seeded against " + target
+          + ", not " + normalize(apiBaseUrl) + ". Point pool.file at a pool for this target or seed a new one");
+    }
+  }
+
+  private static String target(Path file) {
+    try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+      return lines.findFirst()
+          .filter(line -> line.startsWith(TARGET_PREFIX))
+          .map(line -> normalize(line.substring(TARGET_PREFIX.length())))
+          .orElse(null);
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to read account pool " + file, exception);
+    }
+  }
+
+  private static String normalize(String apiBaseUrl) {
+    String trimmed = apiBaseUrl.trim();
+    return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+  }
+
+  private static boolean isAccountLine(String line) {
+    return !line.isBlank() && !HEADER.equals(line) && !line.startsWith(TARGET_PREFIX);
+  }
+
+  private static PooledAccount parse(String line) {
+    String[] columns = line.split(SEPARATOR, -1);
+    if (columns.length != 3) {
+      throw new IllegalStateException("Malformed account pool line: " + line);
+    }
+    return new PooledAccount(columns[0].trim(), columns[1].trim(), columns[2].trim());
+  }
+}
@@ -0,0 +1,73 @@
+package com.example.fintech.perf.data;
+
+import com.example.fintech.perf.config.PoolFeedStrategy;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class AccountPoolFeeder {
+
+  private AccountPoolFeeder() {
+    // utility class
+  }
+
+  public static Iterator<Map<String, Object>> feeder(
+      List<PooledAccount> accounts,
+      PoolFeedStrategy strategy,
+      String prefix
+  ) {
+    String accountIdKey = key(prefix, "accountId");
+    String usernameKey = key(prefix, "username");
+    AtomicInteger cursor = new AtomicInteger();
+
+    return new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        return strategy != PoolFeedStrategy.QUEUE || cursor.get() < accounts.size();
+      }
+
+      @Override
+      public Map<String, Object> next() {
+        PooledAccount account = switch (strategy) {
+          case CIRCULAR -> accounts.get(Math.floorMod(cursor.getAndIncrement(), accounts.size()));
+          case RANDOM -> accounts.get(ThreadLocalRandom.current().nextInt(accounts.size()));
+          case QUEUE -> {
+            int index = cursor.getAndIncrement();
+            if (index >= accounts.size()) {
+              throw new NoSuchElementException("Account pool exhausted after " + accounts.size() + " accounts");
+            }
+            yield accounts.get(index);
+          }
+        };
+        return Map.of(
+            accountIdKey, account.accountId(),
+            usernameKey, account.username(),
+            "password", account.password());
+      }
+    };
+  }
+
+  public static String randomPeerAccountId(List<PooledAccount> accounts, String excludedAccountId) {
+    if (accounts.size() < 2) {
+      throw new IllegalStateException("Account pool needs at least two accounts for transfers");
+    }
+
+    while (true) {
+      PooledAccount candidate = accounts.get(ThreadLocalRandom.current().nextInt(accounts.size()));
+      if (!candidate.accountId().equals(excludedAccountId)) {
+        return candidate.accountId();
+      }
+    }
+  }
+
+  private static String key(String prefix, String name) {
+    if (prefix.isEmpty()) {
+      return name;
+    }
+    return prefix + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+  }
+}
@@ -0,0 +1,56 @@
+package com.example.fintech.perf.data;
+
+import com.example.fintech.perf.config.HotspotSettings;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class HotAccountSelector {
+
+  private final List<PooledAccount> hotPayees;
+  private final List<PooledAccount> payers;
+  private final ZipfSampler payeeSampler;
+  private final ZipfSampler payerSampler;
+
+  public HotAccountSelector(List<PooledAccount> pool, HotspotSettings settings) {
+    if (pool.size() <= settings.hotPayees()) {
+      throw new IllegalStateException("Account pool has " + pool.size()
+          + " accounts; hotspot.payees=" + settings.hotPayees() + " needs a larger pool.size");
+    }
+
+    // The first accounts of the pool form the hot payee set; everyone else pays into it.
+    this.hotPayees = pool.subList(0, settings.hotPayees());
+    this.payers = pool.subList(settings.hotPayees(), pool.size());
+    this.payeeSampler = new ZipfSampler(hotPayees.size(), settings.payeeSkew());
+    this.payerSampler = settings.hotPayers() ? new ZipfSampler(payers.size(), settings.payerSkew()) : null;
+  }
+
+  public Iterator<Map<String, Object>> feeder() {
+    return new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public Map<String, Object> next() {
+        PooledAccount payer = nextPayer();
+        PooledAccount payee = hotPayees.get(payeeSampler.nextIndex());
+        return Map.of(
+            "payerAccountId", payer.accountId(),
+            "payerUsername", payer.username(),
+            "password", payer.password(),
+            "payeeAccountId", payee.accountId());
+      }
+    };
+  }
+
+  private PooledAccount nextPayer() {
+    if (payerSampler != null) {
+      return payers.get(payerSampler.nextIndex());
+    }
+    return payers.get(ThreadLocalRandom.current().nextInt(payers.size()));
+  }
+}
@@ -0,0 +1,4 @@
+package com.example.fintech.perf.data;
+
+public record PooledAccount(String accountId, String username, String password) {
+}
@@ -0,0 +1,45 @@
+package com.example.fintech.perf.data;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class ReplayAccountMapper {
+
+  private final List<PooledAccount> pool;
+  private final Map<String, PooledAccount> assigned = new ConcurrentHashMap<>();
+  private final AtomicInteger cursor = new AtomicInteger();
+
+  public ReplayAccountMapper(List<PooledAccount> pool) {
+    if (pool.size() < 2) {
+      throw new IllegalStateException("Account pool needs at least two accounts for replayed transfers");
+    }
+    this.pool = pool;
+  }
+
+  // Each recorded account keeps one seeded account for the whole replay, so hot accounts stay hot.
+  public PooledAccount map(String recordedAccountId) {
+    if (recordedAccountId == null || recordedAccountId.isBlank()) {
+      return nextAccount();
+    }
+    return assigned.computeIfAbsent(recordedAccountId, id -> nextAccount());
+  }
+
+  public PooledAccount mapPeer(String recordedAccountId, PooledAccount payer) {
+    PooledAccount payee = map(recordedAccountId);
+    if (!payee.accountId().equals(payer.accountId())) {
+      return payee;
+    }
+    int payerIndex = pool.indexOf(payer);
+    return pool.get((payerIndex + 1) % pool.size());
+  }
+
+  public int mappedAccounts() {
+    return assigned.size();
+  }
+
+  private PooledAccount nextAccount() {
+    return pool.get(Math.floorMod(cursor.getAndIncrement(), pool.size()));
+  }
+}
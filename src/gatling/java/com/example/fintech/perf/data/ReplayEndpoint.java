@@ -0,0 +1,27 @@
+package com.example.fintech.perf.data;
+
+public enum ReplayEndpoint {
+  AUTH_REGISTER,
+  AUTH_LOGIN,
+  ACCOUNT_BALANCE,
+  ACCOUNT_FUND,
+  TRANSACTION_PAYMENT,
+  TRANSACTION_HISTORY;
+
+  public static ReplayEndpoint from(String value) {
+    if (value == null || value.isBlank()) {
+      throw new IllegalArgumentException("Missing replay endpoint");
+    }
+
+    return switch (value.trim().toUpperCase()) {
+      case "AUTH_REGISTER" -> AUTH_REGISTER;
+      case "AUTH_LOGIN" -> AUTH_LOGIN;
+      case "ACCOUNT_BALANCE" -> ACCOUNT_BALANCE;
+      case "ACCOUNT_FUND" -> ACCOUNT_FUND;
+      case "TRANSACTION_PAYMENT" -> TRANSACTION_PAYMENT;
+      case "TRANSACTION_HISTORY" -> TRANSACTION_HISTORY;
+      default -> throw new IllegalArgumentException("Unsupported replay endpoint: " + value
+          + ". Supported: AUTH_REGISTER|AUTH_LOGIN|ACCOUNT_BALANCE|ACCOUNT_FUND|TRANSACTION_PAYMENT|TRANSACTION_HISTORY");
+    };
+  }
+}
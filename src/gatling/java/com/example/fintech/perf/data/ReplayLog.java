@@ -0,0 +1,132 @@
+package com.example.fintech.perf.data;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class ReplayLog implements Closeable {
+
+  // Flat JSON objects only: "key": "string" | number | true | false | null.
+  private static final Pattern FIELD = Pattern.compile(
+      "\"(\\w+)\"\\s*:\\s*(?:\"((?:[^\"\\\\]|\\\\.)*)\"|(-?[0-9][0-9.eE+-]*)|true|false|null)");
+
+  private final Path file;
+  private final BufferedReader reader;
+  private final int shardIndex;
+  private final int shardCount;
+  private long lineNumber;
+  private long recordNumber;
+  private long firstTimestampMs = -1;
+
+  private ReplayLog(Path file, BufferedReader reader, int shardIndex, int shardCount) {
+    this.file = file;
+    this.reader = reader;
+    this.shardIndex = shardIndex;
+    this.shardCount = shardCount;
+  }
+
+  public static ReplayLog open(Path file) {
+    return open(file, 0, 1);
+  }
+
+  public static ReplayLog open(Path file, int shardIndex, int shardCount) {
+    if (!Files.exists(file)) {
+      throw new IllegalStateException("Replay log " + file.toAbsolutePath() + " does not exist");
+    }
+
+    try {
+      return new ReplayLog(file, Files.newBufferedReader(file, StandardCharsets.UTF_8), shardIndex, shardCount);
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to open replay log " + file, exception);
+    }
+  }
+
+  public synchronized ReplayRecord next() {
+    try {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        if (line.isBlank()) {
+          continue;
+        }
+        ReplayRecord record = parse(line);
+        if (recordNumber == 0) {
+          firstTimestampMs = record.timestampMs();
+        }
+        if (inShard(record, recordNumber++)) {
+          return record;
+        }
+      }
+      return null;
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to read replay log " + file, exception);
+    }
+  }
+
+  // Timestamp of the first record in the whole log, so every shard shares one time origin.
+  public synchronized long firstTimestampMs() {
+    return firstTimestampMs;
+  }
+
+  @Override
+  public synchronized void close() {
+    try {
+      reader.close();
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to close replay log " + file, exception);
+    }
+  }
+
+  // Sharding by recorded account keeps each account's requests in order on a single injector.
+  private boolean inShard(ReplayRecord record, long ordinal) {
+    if (shardCount <= 1) {
+      return true;
+    }
+    long key = record.accountId() == null ? ordinal : record.accountId().hashCode();
+    return Math.floorMod(key, shardCount) == shardIndex;
+  }
+
+  private ReplayRecord parse(String line) {
+    Map<String, String> fields = new HashMap<>();
+    Matcher matcher = FIELD.matcher(line);
+    while (matcher.find()) {
+      String value = matcher.group(2) != null ? matcher.group(2) : matcher.group(3);
+      if (value != null) {
+        fields.put(matcher.group(1), value);
+      }
+    }
+
+    try {
+      return new ReplayRecord(
+          timestampMs(fields.get("timestamp")),
+          ReplayEndpoint.from(fields.get("endpoint")),
+          fields.get("accountId"),
+          fields.get("toAccountId"),
+          fields.get("amount"));
+    } catch (IllegalArgumentException | DateTimeParseException exception) {
+      throw new IllegalStateException(
+          "Malformed replay log line " + lineNumber + " in " + file + ": " + exception.getMessage(), exception);
+    }
+  }
+
+  private static long timestampMs(String value) {
+    if (value == null) {
+      throw new IllegalArgumentException("Missing timestamp");
+    }
+    // Epoch milliseconds or ISO-8601 instants, whichever the recorder produced.
+    if (value.chars().allMatch(Character::isDigit)) {
+      return Long.parseLong(value);
+    }
+    return Instant.parse(value).toEpochMilli();
+  }
+}
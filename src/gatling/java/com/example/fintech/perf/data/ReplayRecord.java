@@ -0,0 +1,10 @@
+package com.example.fintech.perf.data;
+
+public record ReplayRecord(
+    long timestampMs,
+    ReplayEndpoint endpoint,
+    String accountId,
+    String toAccountId,
+    String amount
+) {
+}
@@ -0,0 +1,32 @@
+package com.example.fintech.perf.data;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class ZipfSampler {
+
+  private final double[] cumulative;
+
+  public ZipfSampler(int size, double exponent) {
+    if (size < 1) {
+      throw new IllegalArgumentException("Zipf size must be positive: " + size);
+    }
+
+    cumulative = new double[size];
+    double total = 0.0;
+    for (int rank = 1; rank <= size; rank++) {
+      total += 1.0 / Math.pow(rank, exponent);
+      cumulative[rank - 1] = total;
+    }
+    for (int index = 0; index < size; index++) {
+      cumulative[index] /= total;
+    }
+  }
+
+  public int nextIndex() {
+    double point = ThreadLocalRandom.current().nextDouble();
+    int index = Arrays.binarySearch(cumulative, point);
+    int resolved = index >= 0 ? index : -index - 1;
+    return Math.min(resolved, cumulative.length - 1);
+  }
+}
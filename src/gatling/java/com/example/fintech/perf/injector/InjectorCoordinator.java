@@ -0,0 +1,234 @@
+package com.example.fintech.perf.injector;
+
+import com.example.fintech.perf.config.InjectorSettings;
+import com.example.fintech.perf.config.PerfConfig;
+import com.example.fintech.perf.metrics.ResultFiles;
+import com.example.fintech.perf.metrics.ResultMerger;
+import com.example.fintech.perf.stub.StubBackend;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+public final class InjectorCoordinator {
+
+  private static final String GATLING_MAIN = "io.gatling.app.Gatling";
+  private static final String SIMULATION_PACKAGE = "com.example.fintech.perf.simulation.";
+  private static final String SIMULATION_LOG = "simulation.log";
+  private static final int ASSERTIONS_FAILED_EXIT_CODE = 2;
+  private static final long REPLAY_START_LEAD_MS = 15_000L;
+  private static final String FORWARDED_PREFIXES_FILE = "perf-forwarded-prefixes.txt";
+  private static final List<String> FORWARDED_PREFIXES = loadForwardedPrefixes();
+
+  private final PerfConfig config;
+  private final InjectorSettings injector;
+  private final String simulationClass;
+  private final String simulationName;
+  private final String runId;
+  private final Path runDir;
+  private final long replayStartAtMs;
+
+  private InjectorCoordinator(PerfConfig config) {
+    this.config = config;
+    this.injector = config.injector();
+    if (injector.simulation().isBlank()) {
+      throw new IllegalArgumentException("Set injector.simulation to the simulation class to run");
+    }
+    this.simulationClass = injector.simulation().contains(".")
+        ? injector.simulation()
+        : SIMULATION_PACKAGE + injector.simulation();
+    this.simulationName = simulationClass.substring(simulationClass.lastIndexOf('.') + 1);
+    this.runId = simulationName.toLowerCase(Locale.ROOT) + "-x" + injector.count() + "-" + ResultFiles.timestamp();
+    this.runDir = config.resultsDir().resolve("injectors").resolve(runId);
+    // Replaying injectors start on one clock, with a lead long enough for every JVM to boot first.
+    this.replayStartAtMs = config.replay().startAtMs() > 0
+        ? config.replay().startAtMs()
+        : System.currentTimeMillis() + REPLAY_START_LEAD_MS;
+  }
+
+  public static void main(String[] args) throws InterruptedException {
+    int exitCode = new InjectorCoordinator(PerfConfig.load()).run();
+    System.exit(exitCode);
+  }
+
+  private int run() throws InterruptedException {
+    System.out.printf(Locale.ROOT, "Distributed run %s: %d injectors of %s, %s of the profile rate each%n",
+        runId, injector.count(), simulationClass, ResultFiles.number(injector.share() * 100.0) + "%");
+
+    // A single shared stub keeps the injectors hitting one backend instead of racing for stub.port.
+    StubBackend stub = config.stub().enabled() ? StubBackend.start(config) : null;
+    try {
+      List<Process> processes = new ArrayList<>();
+      for (int index = 0; index < injector.count(); index++) {
+        processes.add(startInjector(index));
+      }
+
+      boolean injectorsFailed = false;
+      for (int index = 0; index < processes.size(); index++) {
+        int exitCode = processes.get(index).waitFor();
+        System.out.println("Injector " + index + " exited with " + exitCode + " (log: "
+            + injectorLog(index).toAbsolutePath() + ")");
+        if (exitCode != 0 && exitCode != ASSERTIONS_FAILED_EXIT_CODE) {
+          injectorsFailed = true;
+        }
+      }
+      if (injectorsFailed) {
+        System.out.println("At least one injector crashed; merged results would be incomplete");
+        return 1;
+      }
+
+      List<Path> injectorDirs = new ArrayList<>();
+      for (int index = 0; index < injector.count(); index++) {
+        injectorDirs.add(injectorResultsDir(index));
+      }
+      ResultMerger.mergeLatencyLogs(injectorDirs, config.resultsDir(), simulationName);
+      ResultMerger.mergeRunHistory(injectorDirs, config.resultsDir(), simulationName, runId);
+      return generateMergedReport();
+    } finally {
+      if (stub != null) {
+        stub.close();
+      }
+    }
+  }
+
+  private Process startInjector(int index) {
+    List<String> command = javaCommand();
+    forwardedProperties().forEach(property -> command.add("-D" + property));
+    command.add("-Dinjector.count=" + injector.count());
+    command.add("-Dinjector.index=" + index);
+    command.add("-Dperf.resultsDir=" + injectorResultsDir(index).toAbsolutePath());
+    command.add("-Dperf.gitCommit=" + config.gitCommit());
+    command.add("-Dreplay.startAtMs=" + replayStartAtMs);
+    if (config.liveMetrics().endpointEnabled()) {
+      command.add("-Dlive.port=" + (config.liveMetrics().port() + index));
+    }
+    if (config.stub().enabled()) {
+      command.add("-Dstub.enabled=false");
+      command.add("-Dapi.baseUrl=" + config.apiBaseUrl());
+    }
+    command.add(GATLING_MAIN);
+    command.add("--simulation");
+    command.add(simulationClass);
+    command.add("--results-folder");
+    command.add(injectorGatlingDir(index).toAbsolutePath().toString());
+    command.add("--no-reports");
+
+    try {
+      Files.createDirectories(runDir);
+      return new ProcessBuilder(command)
+          .redirectErrorStream(true)
+          .redirectOutput(injectorLog(index).toFile())
+          .start();
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to start injector " + index, exception);
+    }
+  }
+
+  private int generateMergedReport() throws InterruptedException {
+    Path mergedDir = injector.gatlingResultsDir().resolve(runId);
+    int copied = 0;
+    for (int index = 0; index < injector.count(); index++) {
+      for (Path log : simulationLogs(injectorGatlingDir(index))) {
+        copy(log, mergedDir.resolve("simulation-" + index + "-" + copied + ".log"));
+        copied++;
+      }
+    }
+    if (copied == 0) {
+      System.out.println("No Gatling simulation logs produced by the injectors");
+      return 1;
+    }
+
+    List<String> command = javaCommand();
+    forwardedProperties().forEach(property -> command.add("-D" + property));
+    command.add(GATLING_MAIN);
+    command.add("--results-folder");
+    command.add(injector.gatlingResultsDir().toAbsolutePath().toString());
+    command.add("--reports-only");
+    command.add(runId);
+
+    try {
+      // The report generator re-evaluates the simulation assertions over the merged logs.
+      int exitCode = new ProcessBuilder(command).inheritIO().start().waitFor();
+      System.out.println("Merged report: " + mergedDir.resolve("index.html").toAbsolutePath());
+      return exitCode;
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to generate the merged report", exception);
+    }
+  }
+
+  private List<String> javaCommand() {
+    List<String> command = new ArrayList<>();
+    command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+    if (!injector.jvmArgs().isBlank()) {
+      command.addAll(Arrays.asList(injector.jvmArgs().trim().split("\\s+")));
+    }
+    command.add("-cp");
+    command.add(System.getProperty("java.class.path"));
+    return command;
+  }
+
+  private static List<String> forwardedProperties() {
+    return System.getProperties().stringPropertyNames().stream()
+        .filter(name -> FORWARDED_PREFIXES.stream().anyMatch(name::startsWith))
+        .sorted()
+        .map(name -> name + "=" + System.getProperty(name))
+        .toList();
+  }
+
+  // perfDistributed forwards the same prefixes from Gradle, so both sides read one file.
+  private static List<String> loadForwardedPrefixes() {
+    try (InputStream input = InjectorCoordinator.class.getClassLoader().getResourceAsStream(FORWARDED_PREFIXES_FILE)) {
+      if (input == null) {
+        throw new IllegalStateException(FORWARDED_PREFIXES_FILE + " is missing from the classpath");
+      }
+      return new String(input.readAllBytes(), StandardCharsets.UTF_8).lines()
+          .map(String::trim)
+          .filter(prefix -> !prefix.isEmpty())
+          .toList();
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to read " + FORWARDED_PREFIXES_FILE, exception);
+    }
+  }
+
+  private static List<Path> simulationLogs(Path gatlingDir) {
+    if (!Files.isDirectory(gatlingDir)) {
+      return List.of();
+    }
+
+    try (Stream<Path> files = Files.walk(gatlingDir)) {
+      return files.filter(file -> file.getFileName().toString().equals(SIMULATION_LOG)).toList();
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to list " + gatlingDir, exception);
+    }
+  }
+
+  private static void copy(Path source, Path target) {
+    try {
+      Files.createDirectories(target.getParent());
+      Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to copy " + source + " to " + target, exception);
+    }
+  }
+
+  private Path injectorResultsDir(int index) {
+    return runDir.resolve("injector-" + index);
+  }
+
+  private Path injectorGatlingDir(int index) {
+    return injector.gatlingResultsDir().resolve(runId + "-injectors").resolve("injector-" + index);
+  }
+
+  private Path injectorLog(int index) {
+    return runDir.resolve("injector-" + index + ".log");
+  }
+}
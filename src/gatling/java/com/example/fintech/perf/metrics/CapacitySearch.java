@@ -0,0 +1,140 @@
+package com.example.fintech.perf.metrics;
+
+import com.example.fintech.perf.config.CapacityPlan;
+import com.example.fintech.perf.config.PerfConfig;
+import com.example.fintech.perf.config.SloLimits;
+
+import java.nio.file.Path;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+final class CapacitySearch implements ResponseListener {
+
+  private static final long SETTLE_CHECK_MS = 1_000L;
+
+  private final CapacityPlan plan;
+  private final int p95LimitMs;
+  private final double maxErrorRatePercent;
+  private final Path resultFile;
+  private final String simulationName;
+  private final LatencyStats[] steps;
+  private final long settleGraceMs;
+  private final ScheduledExecutorService evaluator;
+
+  private volatile long runStartMs;
+  private int nextStepToEvaluate;
+  private double lastPassingRate = -1;
+  private boolean breached;
+
+  CapacitySearch(PerfConfig config, String simulationName, long runStartMs) {
+    this.plan = config.capacityPlan().scaled(config.loadScale());
+    this.runStartMs = runStartMs;
+    SloLimits limits = config.slo(SloLimits.GLOBAL);
+    this.p95LimitMs = limits.p95Ms();
+    this.maxErrorRatePercent = limits.maxErrorRatePercent();
+    this.simulationName = simulationName;
+    this.resultFile = ResultFiles.newFile(config.resultsDir(), simulationName, "capacity", "jsonl");
+    this.steps = new LatencyStats[plan.maxSteps()];
+    for (int step = 0; step < steps.length; step++) {
+      steps[step] = new LatencyStats();
+    }
+    // A request sent at the end of a hold window can take up to http.timeoutMs to come back.
+    this.settleGraceMs = config.requestTimeoutMs();
+    this.evaluator = MetricThreads.scheduler("capacity-search");
+    evaluator.scheduleAtFixedRate(this::evaluateSettledSafely, SETTLE_CHECK_MS, SETTLE_CHECK_MS, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void onResponse(ResponseSample sample) {
+    long elapsedMs = sample.sentAtMs() - runStartMs;
+    if (elapsedMs < 0) {
+      return;
+    }
+
+    int step = (int) (elapsedMs / plan.stepPeriodMs());
+    if (step >= steps.length) {
+      return;
+    }
+
+    // Requests sent during the ramp towards the next level belong to neither level.
+    boolean inHoldWindow = elapsedMs - step * plan.stepPeriodMs() < plan.holdMs();
+    if (inHoldWindow) {
+      steps[step].record(sample.latencyMs(), sample.ok());
+    }
+  }
+
+  @Override
+  public void onMeasurementStart(long firstUserId, long startMs) {
+    this.runStartMs = startMs;
+  }
+
+  @Override
+  public synchronized void onRunEnd() {
+    evaluator.shutdownNow();
+    evaluateUpTo(steps.length);
+    String capacity = lastPassingRate < 0 ? "null" : ResultFiles.number(lastPassingRate);
+    ResultFiles.appendLine(resultFile, "{\"type\":\"capacity\""
+        + ",\"simulation\":\"" + simulationName + "\""
+        + ",\"maxSustainableUsersPerSec\":" + capacity
+        + ",\"breached\":" + breached
+        + ",\"p95LimitMs\":" + p95LimitMs
+        + ",\"maxErrorRatePercent\":" + ResultFiles.number(maxErrorRatePercent)
+        + "}");
+    System.out.printf("Capacity (%s): %s users/s under p95<=%dms and errors<=%s%% -> %s%n",
+        simulationName, capacity, p95LimitMs, ResultFiles.number(maxErrorRatePercent), resultFile.toAbsolutePath());
+  }
+
+  private void evaluateSettledSafely() {
+    try {
+      evaluateUpTo(settledSteps(System.currentTimeMillis()));
+    } catch (RuntimeException exception) {
+      System.err.println("Unable to evaluate capacity steps: " + exception.getMessage());
+    }
+  }
+
+  // Steps whose hold window ended at least settleGraceMs ago have all their responses in.
+  private int settledSteps(long nowMs) {
+    long settledMs = nowMs - runStartMs - plan.holdMs() - settleGraceMs;
+    if (settledMs < 0) {
+      return 0;
+    }
+    return (int) Math.min(steps.length, settledMs / plan.stepPeriodMs() + 1);
+  }
+
+  private synchronized void evaluateUpTo(int stepExclusive) {
+    while (nextStepToEvaluate < stepExclusive && !breached) {
+      LatencyStats stats = steps[nextStepToEvaluate];
+      if (stats.total() == 0) {
+        nextStepToEvaluate++;
+        continue;
+      }
+
+      double rate = plan.rateAt(nextStepToEvaluate);
+      long p95 = stats.percentileMs(95.0);
+      long p99 = stats.percentileMs(99.0);
+      double errorRatePercent = stats.errorRatePercent();
+      boolean passed = p95 <= p95LimitMs && errorRatePercent <= maxErrorRatePercent;
+
+      ResultFiles.appendLine(resultFile, "{\"type\":\"step\""
+          + ",\"step\":" + nextStepToEvaluate
+          + ",\"usersPerSec\":" + ResultFiles.number(rate)
+          + ",\"requests\":" + stats.total()
+          + ",\"requestsPerSec\":" + ResultFiles.number(stats.total() / (double) plan.holdSeconds())
+          + ",\"p95Ms\":" + p95
+          + ",\"p99Ms\":" + p99
+          + ",\"errorRatePercent\":" + ResultFiles.number(errorRatePercent)
+          + ",\"passed\":" + passed
+          + "}");
+
+      if (passed) {
+        lastPassingRate = rate;
+      } else {
+        breached = true;
+        RunControl.requestStop(String.format(
+            "capacity step %d (%s users/s) breached p95=%dms errors=%s%%",
+            nextStepToEvaluate, ResultFiles.number(rate), p95, ResultFiles.number(errorRatePercent)));
+      }
+      nextStepToEvaluate++;
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.example.fintech.perf.metrics;
+
+record ConnectionPoint(
+    String matrixId,
+    String simulation,
+    String profile,
+    String gitCommit,
+    String model,
+    long startedAtMs,
+    long durationMs,
+    long users,
+    long count,
+    long failed,
+    double throughput,
+    long p95Ms,
+    long p99Ms,
+    long peakOpen,
+    long opened
+) {
+
+  static final String HEADER = "matrixId,simulation,profile,gitCommit,model,startedAtMs,durationMs,users,count,failed,"
+      + "okPerSec,p95Ms,p99Ms,peakOpenConnections,openedConnections";
+  private static final String SEPARATOR = ",";
+  private static final int COLUMNS = 15;
+
+  double errorRatePercent() {
+    return count == 0 ? 0.0 : failed * 100.0 / count;
+  }
+
+  String toCsv() {
+    return String.join(SEPARATOR,
+        matrixId,
+        simulation,
+        profile,
+        gitCommit,
+        model,
+        Long.toString(startedAtMs),
+        Long.toString(durationMs),
+        Long.toString(users),
+        Long.toString(count),
+        Long.toString(failed),
+        ResultFiles.number(throughput),
+        Long.toString(p95Ms),
+        Long.toString(p99Ms),
+        Long.toString(peakOpen),
+        Long.toString(opened));
+  }
+
+  static ConnectionPoint parse(String line) {
+    String[] columns = line.split(SEPARATOR, -1);
+    if (columns.length != COLUMNS) {
+      throw new IllegalStateException("Malformed connection matrix row: " + line);
+    }
+    try {
+      return new ConnectionPoint(
+          columns[0],
+          columns[1],
+          columns[2],
+          columns[3],
+          columns[4],
+          Long.parseLong(columns[5]),
+          Long.parseLong(columns[6]),
+          Long.parseLong(columns[7]),
+          Long.parseLong(columns[8]),
+          Long.parseLong(columns[9]),
+          Double.parseDouble(columns[10]),
+          Long.parseLong(columns[11]),
+          Long.parseLong(columns[12]),
+          Long.parseLong(columns[13]),
+          Long.parseLong(columns[14]));
+    } catch (NumberFormatException exception) {
+      throw new IllegalStateException("Malformed connection matrix row: " + line, exception);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.example.fintech.perf.metrics;
+
+import com.example.fintech.perf.config.ConnectionSettings;
+import com.example.fintech.perf.config.PerfConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public final class ConnectionReport {
+
+  private final ConnectionSettings settings;
+  private final Path matrixFile;
+
+  private ConnectionReport(PerfConfig config) {
+    this.settings = config.connection();
+    this.matrixFile = config.resultsDir().resolve(ConnectionSampler.FILE_NAME);
+  }
+
+  public static void main(String[] args) {
+    if (!new ConnectionReport(PerfConfig.load()).report()) {
+      System.exit(1);
+    }
+  }
+
+  private boolean report() {
+    List<ConnectionPoint> stored = load(matrixFile);
+    if (stored.isEmpty()) {
+      System.out.println("No connection matrix rows in " + matrixFile);
+      return false;
+    }
+    String matrixId = settings.matrixing() ? settings.matrixId() : stored.get(stored.size() - 1).matrixId();
+    // Rows keep the order the models ran in; a rerun of one model replaces its earlier row.
+    Map<String, ConnectionPoint> byModel = new LinkedHashMap<>();
+    stored.stream()
+        .filter(point -> point.matrixId().equals(matrixId))
+        .forEach(point -> byModel.put(point.model(), point));
+    if (byModel.isEmpty()) {
+      System.out.println("No rows for connection matrix " + matrixId + " in " + matrixFile);
+      return false;
+    }
+
+    ConnectionPoint first = byModel.values().iterator().next();
+    System.out.println();
+    System.out.printf("Connection matrix %s (%s, %s profile, %s)%n",
+        matrixId, first.simulation(), first.profile(), first.gitCommit());
+    System.out.printf("%-48s %8s %10s %8s %8s %8s %10s %10s %10s%n",
+        "model", "users", "ok/s", "p95", "p99", "errors", "peak open", "opened", "per user");
+    for (ConnectionPoint point : byModel.values()) {
+      System.out.printf("%-48s %8d %10s %6dms %6dms %7s%% %10s %10s %10s%n",
+          point.model(),
+          point.users(),
+          ResultFiles.number(point.throughput()),
+          point.p95Ms(),
+          point.p99Ms(),
+          ResultFiles.number(point.errorRatePercent()),
+          point.peakOpen() < 0 ? "n/a" : Long.toString(point.peakOpen()),
+          point.opened() < 0 ? "n/a" : Long.toString(point.opened()),
+          point.opened() < 0 || point.users() == 0 ? "n/a" : ResultFiles.number(point.opened() / (double) point.users()));
+    }
+    System.out.println("Connection matrix rows: " + matrixFile.toAbsolutePath());
+    return true;
+  }
+
+  private static List<ConnectionPoint> load(Path file) {
+    if (!Files.exists(file)) {
+      return List.of();
+    }
+
+    try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+      return lines.filter(line -> !line.isBlank() && !ConnectionPoint.HEADER.equals(line))
+          .map(ConnectionPoint::parse)
+          .toList();
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to read connection matrix " + file, exception);
+    }
+  }
+}
@@ -0,0 +1,234 @@
+package com.example.fintech.perf.metrics;
+
+import com.example.fintech.perf.config.ConnectionSettings;
+import com.example.fintech.perf.config.PerfConfig;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.stream.Stream;
+
+final class ConnectionSampler implements ResponseListener {
+
+  static final String FILE_NAME = "connection-matrix.csv";
+
+  private static final long SAMPLE_INTERVAL_MS = 1_000;
+  private static final String ESTABLISHED = "01";
+  private static final List<Path> TCP_TABLES = List.of(Path.of("/proc/self/net/tcp"), Path.of("/proc/self/net/tcp6"));
+  private static final Path OWN_DESCRIPTORS = Path.of("/proc/self/fd");
+  private static final Path TCP_COUNTERS = Path.of("/proc/self/net/snmp");
+
+  private final ConnectionSettings settings;
+  private final String simulationName;
+  private final String profile;
+  private final String gitCommit;
+  private final String model;
+  private final int targetPort;
+  private final Path matrixFile;
+  private final LatencyStats stats = new LatencyStats();
+  private final LongAccumulator firstUser = new LongAccumulator(Math::min, Long.MAX_VALUE);
+  private final LongAccumulator lastUser = new LongAccumulator(Math::max, Long.MIN_VALUE);
+  private final ScheduledExecutorService sampler;
+
+  private volatile long measureStartMs;
+  private long startActiveOpens;
+  private long peakOpen;
+  private boolean available = true;
+
+  ConnectionSampler(PerfConfig config, String simulationName, long runStartMs) {
+    this.settings = config.connection();
+    this.simulationName = simulationName;
+    this.profile = config.profile().name().toLowerCase(Locale.ROOT);
+    this.gitCommit = config.gitCommit().replace(",", "");
+    this.model = settings.describe("https".equalsIgnoreCase(URI.create(config.apiBaseUrl()).getScheme()));
+    this.targetPort = portOf(config.apiBaseUrl());
+    this.matrixFile = ResultFiles.sharedFile(config.resultsDir(), FILE_NAME);
+    this.measureStartMs = runStartMs;
+    this.startActiveOpens = activeOpens();
+    this.sampler = MetricThreads.scheduler("connection-sampler");
+    sampler.scheduleAtFixedRate(this::sampleSafely, 0, SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public synchronized void onMeasurementStart(long firstUserId, long startMs) {
+    this.measureStartMs = startMs;
+    // Connections a shared pool opened during warm-up are reused afterwards and are not counted again.
+    this.startActiveOpens = activeOpens();
+    this.peakOpen = 0;
+  }
+
+  @Override
+  public void onResponse(ResponseSample sample) {
+    stats.record(sample.latencyMs(), sample.ok());
+    firstUser.accumulate(sample.userId());
+    lastUser.accumulate(sample.userId());
+  }
+
+  @Override
+  public void onRunEnd() {
+    sampler.shutdownNow();
+    long durationMs = Math.max(1, System.currentTimeMillis() - measureStartMs);
+    long peak;
+    long opened;
+    synchronized (this) {
+      peak = available ? peakOpen : -1;
+      long activeOpens = activeOpens();
+      opened = activeOpens < 0 || startActiveOpens < 0 ? -1 : activeOpens - startActiveOpens;
+    }
+    long users = stats.total() == 0 ? 0 : lastUser.get() - firstUser.get() + 1;
+
+    System.out.println();
+    System.out.printf("Connections (%s, port %d)%n", model, targetPort);
+    System.out.printf("  peak open %s (this JVM), opened %s (network namespace), %s users, %d requests%n",
+        peak < 0 ? "n/a" : Long.toString(peak),
+        opened < 0 ? "n/a" : Long.toString(opened),
+        users,
+        stats.total());
+    if (opened >= 0 && stats.total() > 0) {
+      System.out.printf("  %s connections per user, %s per 1000 requests%n",
+          users == 0 ? "n/a" : ResultFiles.number(opened / (double) users),
+          ResultFiles.number(opened * 1_000.0 / stats.total()));
+    }
+
+    if (stats.total() == 0) {
+      return;
+    }
+    ConnectionPoint point = new ConnectionPoint(
+        settings.matrixId(),
+        simulationName,
+        profile,
+        gitCommit,
+        model,
+        measureStartMs,
+        durationMs,
+        users,
+        stats.total(),
+        stats.failed(),
+        (stats.total() - stats.failed()) * 1_000.0 / durationMs,
+        stats.percentileMs(95.0),
+        stats.percentileMs(99.0),
+        peak,
+        opened);
+    if (!Files.exists(matrixFile)) {
+      ResultFiles.appendLine(matrixFile, ConnectionPoint.HEADER);
+    }
+    ResultFiles.appendLine(matrixFile, point.toCsv());
+    System.out.println("Connection matrix: " + matrixFile.toAbsolutePath());
+  }
+
+  private void sampleSafely() {
+    try {
+      sample();
+    } catch (RuntimeException exception) {
+      System.err.println("Unable to sample connections: " + exception.getMessage());
+    }
+  }
+
+  private synchronized void sample() {
+    if (!available) {
+      return;
+    }
+    long open = openConnections();
+    if (open < 0) {
+      // No procfs, e.g. on macOS; throughput and latencies are still recorded.
+      available = false;
+      sampler.shutdown();
+      return;
+    }
+    peakOpen = Math.max(peakOpen, open);
+  }
+
+  // The kernel's TCP table covers the whole network namespace, so only sockets held by this JVM are counted:
+  // an in-process stub or a backend on the same host would otherwise add its own side of every connection.
+  private long openConnections() {
+    Set<String> ownSockets = ownSocketInodes();
+    if (ownSockets == null) {
+      return -1;
+    }
+    long open = 0;
+    for (Path table : TCP_TABLES) {
+      if (!Files.isReadable(table)) {
+        continue;
+      }
+      try (Stream<String> lines = Files.lines(table)) {
+        open += lines.skip(1)
+            .map(line -> line.trim().split("\\s+"))
+            .filter(columns -> columns.length > 9
+                && ESTABLISHED.equals(columns[3])
+                && remotePort(columns[2]) == targetPort
+                && ownSockets.contains(columns[9]))
+            .count();
+      } catch (IOException exception) {
+        return -1;
+      }
+    }
+    return open;
+  }
+
+  private static Set<String> ownSocketInodes() {
+    if (!Files.isDirectory(OWN_DESCRIPTORS)) {
+      return null;
+    }
+    Set<String> inodes = new HashSet<>();
+    try (Stream<Path> descriptors = Files.list(OWN_DESCRIPTORS)) {
+      descriptors.forEach(descriptor -> {
+        try {
+          String target = Files.readSymbolicLink(descriptor).toString();
+          if (target.startsWith("socket:[")) {
+            inodes.add(target.substring("socket:[".length(), target.length() - 1));
+          }
+        } catch (IOException ignored) {
+          // The descriptor was closed between listing and reading it.
+        }
+      });
+    } catch (IOException exception) {
+      return null;
+    }
+    return inodes;
+  }
+
+  // Counts every active open in the namespace, which catches connections too short-lived to show up in a sample.
+  private static long activeOpens() {
+    if (!Files.isReadable(TCP_COUNTERS)) {
+      return -1;
+    }
+    try {
+      List<String[]> tcp = Files.readAllLines(TCP_COUNTERS).stream()
+          .filter(line -> line.startsWith("Tcp:"))
+          .map(line -> line.trim().split("\\s+"))
+          .toList();
+      if (tcp.size() < 2) {
+        return -1;
+      }
+      for (int column = 1; column < tcp.get(0).length; column++) {
+        if ("ActiveOpens".equals(tcp.get(0)[column])) {
+          return Long.parseLong(tcp.get(1)[column]);
+        }
+      }
+      return -1;
+    } catch (IOException | NumberFormatException | ArrayIndexOutOfBoundsException exception) {
+      return -1;
+    }
+  }
+
+  private static int remotePort(String address) {
+    int separator = address.lastIndexOf(':');
+    return separator < 0 ? -1 : Integer.parseInt(address.substring(separator + 1), 16);
+  }
+
+  private static int portOf(String baseUrl) {
+    URI uri = URI.create(baseUrl);
+    if (uri.getPort() > 0) {
+      return uri.getPort();
+    }
+    return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+  }
+}
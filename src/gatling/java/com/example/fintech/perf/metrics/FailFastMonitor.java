@@ -0,0 +1,110 @@
+package com.example.fintech.perf.metrics;
+
+import com.example.fintech.perf.config.FailFastSettings;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+final class FailFastMonitor implements ResponseListener {
+
+  private final FailFastSettings settings;
+  private final Map<String, RequestWindow> requests = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService evaluator;
+
+  private volatile long measureStartMs;
+  private String tripReason;
+
+  FailFastMonitor(FailFastSettings settings, long runStartMs) {
+    this.settings = settings;
+    this.measureStartMs = runStartMs;
+    this.evaluator = MetricThreads.scheduler("fail-fast");
+    evaluator.scheduleAtFixedRate(this::evaluateSafely, settings.windowMs(), settings.windowMs(), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void onMeasurementStart(long firstUserId, long startMs) {
+    this.measureStartMs = startMs;
+  }
+
+  @Override
+  public void onResponse(ResponseSample sample) {
+    requests.computeIfAbsent(sample.requestName(), name -> new RequestWindow()).record(sample);
+  }
+
+  @Override
+  public synchronized void onRunEnd() {
+    evaluator.shutdownNow();
+    if (tripReason != null) {
+      System.out.println();
+      System.out.println("Fail-fast: run aborted, " + tripReason);
+    }
+  }
+
+  private void evaluateSafely() {
+    try {
+      evaluate(System.currentTimeMillis());
+    } catch (RuntimeException exception) {
+      System.err.println("Unable to evaluate fail-fast limits: " + exception.getMessage());
+    }
+  }
+
+  private synchronized void evaluate(long nowMs) {
+    if (tripReason != null) {
+      return;
+    }
+    for (Map.Entry<String, RequestWindow> entry : new TreeMap<>(requests).entrySet()) {
+      String breach = entry.getValue().closeWindow(entry.getKey());
+      if (breach != null && entry.getValue().breachedWindows >= settings.sustainedWindows()) {
+        tripReason = String.format(Locale.ROOT, "%s for %ds, %ds into the measured run",
+            breach, settings.sustainedSeconds(), (nowMs - measureStartMs) / 1_000);
+        RunControl.requestAbort("fail-fast limit exceeded: " + tripReason);
+        return;
+      }
+    }
+  }
+
+  private final class RequestWindow {
+
+    private final Recorder latency = new Recorder(LatencyStats.HIGHEST_TRACKABLE_LATENCY_MS, LatencyStats.SIGNIFICANT_DIGITS);
+    private final LongAdder failed = new LongAdder();
+    private Histogram recycled;
+    private int breachedWindows;
+
+    void record(ResponseSample sample) {
+      latency.recordValue(LatencyStats.clamp(sample.latencyMs()));
+      if (!sample.ok()) {
+        failed.increment();
+      }
+    }
+
+    // Returns the breach in the window just closed, or null. A window with too few responses to judge leaves
+    // the streak as it is, so a sparse arrival rate neither hides a failing request nor clears it.
+    String closeWindow(String name) {
+      recycled = latency.getIntervalHistogram(recycled);
+      long count = recycled.getTotalCount();
+      long failures = Math.min(count, failed.sumThenReset());
+      if (count < settings.minRequests()) {
+        return null;
+      }
+
+      double errorRatePercent = failures * 100.0 / count;
+      long p95Ms = recycled.getValueAtPercentile(95.0);
+      String breach = null;
+      if (errorRatePercent > settings.maxErrorRatePercent()) {
+        breach = String.format(Locale.ROOT, "%s error rate %.1f%% > %.1f%%",
+            name, errorRatePercent, settings.maxErrorRatePercent());
+      } else if (p95Ms > settings.maxP95Ms()) {
+        breach = String.format(Locale.ROOT, "%s p95 %dms > %dms", name, p95Ms, settings.maxP95Ms());
+      }
+      breachedWindows = breach == null ? 0 : breachedWindows + 1;
+      return breach;
+    }
+  }
+}
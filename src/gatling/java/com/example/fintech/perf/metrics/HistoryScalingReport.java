@@ -0,0 +1,68 @@
+package com.example.fintech.perf.metrics;
+
+import com.example.fintech.perf.config.PerfConfig;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class HistoryScalingReport implements ResponseListener {
+
+  private static final String HEADER = "historySize,request,count,failed,errorRatePercent,p50Ms,p95Ms,p99Ms,maxMs";
+
+  private final String simulationName;
+  private final Path resultsDir;
+  private final Map<String, Integer> historySizes;
+  private final Map<String, LatencyStats> requests = new LinkedHashMap<>();
+
+  public HistoryScalingReport(PerfConfig config, String simulationName, Map<String, Integer> historySizes) {
+    this.simulationName = simulationName;
+    this.resultsDir = config.resultsDir();
+    this.historySizes = Map.copyOf(historySizes);
+    historySizes.keySet().forEach(requestName -> requests.put(requestName, new LatencyStats()));
+  }
+
+  @Override
+  public void onResponse(ResponseSample sample) {
+    LatencyStats stats = requests.get(sample.requestName());
+    if (stats != null) {
+      stats.record(sample.latencyMs(), sample.ok());
+    }
+  }
+
+  @Override
+  public void onRunEnd() {
+    Path resultFile = ResultFiles.newFile(resultsDir, simulationName, "history-scaling", "csv");
+    ResultFiles.appendLine(resultFile, HEADER);
+
+    System.out.println();
+    System.out.println("Latency vs transaction history size (p95 growth relative to the smallest size)");
+    System.out.printf("%-36s %8s %8s %8s %8s %8s %8s%n", "request", "size", "count", "p50", "p95", "p99", "growth");
+    Map<String, Long> smallestP95 = new LinkedHashMap<>();
+    requests.forEach((requestName, stats) -> {
+      int historySize = historySizes.get(requestName);
+      long p95 = stats.percentileMs(95.0);
+      ResultFiles.appendLine(resultFile, historySize
+          + "," + requestName
+          + "," + stats.total()
+          + "," + stats.failed()
+          + "," + ResultFiles.number(stats.errorRatePercent())
+          + "," + stats.percentileMs(50.0)
+          + "," + p95
+          + "," + stats.percentileMs(99.0)
+          + "," + stats.maxMs());
+
+      String kind = requestName.substring(0, requestName.lastIndexOf('.'));
+      long reference = smallestP95.computeIfAbsent(kind, key -> p95);
+      System.out.printf("%-36s %8d %8d %8d %8d %8d %8s%n",
+          requestName,
+          historySize,
+          stats.total(),
+          stats.percentileMs(50.0),
+          p95,
+          stats.percentileMs(99.0),
+          reference == 0 ? "-" : ResultFiles.number(p95 / (double) reference) + "x");
+    });
+    System.out.println("History scaling curve: " + resultFile.toAbsolutePath());
+  }
+}
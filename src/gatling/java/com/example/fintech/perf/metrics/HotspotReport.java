@@ -0,0 +1,121 @@
+package com.example.fintech.perf.metrics;
+
+import com.example.fintech.perf.config.HotspotSettings;
+import com.example.fintech.perf.config.PerfConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+public final class HotspotReport implements ResponseListener {
+
+  private static final String RESULT_FILE = "hotspot-contention.jsonl";
+  private static final Pattern FIELD = Pattern.compile("\"(\\w+)\"\\s*:\\s*\"?([^\",}]*)\"?");
+
+  private final String simulationName;
+  private final String transferRequestName;
+  private final HotspotSettings settings;
+  private final Path resultFile;
+  private final LatencyStats transfers = new LatencyStats();
+
+  public HotspotReport(PerfConfig config, String simulationName, String transferRequestName) {
+    this.simulationName = simulationName;
+    this.transferRequestName = transferRequestName;
+    this.settings = config.hotspot();
+    this.resultFile = ResultFiles.sharedFile(config.resultsDir(), RESULT_FILE);
+  }
+
+  @Override
+  public void onResponse(ResponseSample sample) {
+    if (transferRequestName.equals(sample.requestName())) {
+      transfers.record(sample.latencyMs(), sample.ok());
+    }
+  }
+
+  @Override
+  public void onRunEnd() {
+    if (transfers.total() == 0) {
+      return;
+    }
+
+    ResultFiles.appendLine(resultFile, "{\"simulation\":\"" + simulationName + "\""
+        + ",\"timestamp\":\"" + Instant.now() + "\""
+        + ",\"hotPayees\":" + settings.hotPayees()
+        + ",\"payeeSkew\":" + ResultFiles.number(settings.payeeSkew())
+        + ",\"hotPayers\":" + settings.hotPayers()
+        + ",\"payerSkew\":" + ResultFiles.number(settings.payerSkew())
+        + ",\"transfers\":" + transfers.total()
+        + ",\"failed\":" + transfers.failed()
+        + ",\"errorRatePercent\":" + ResultFiles.number(transfers.errorRatePercent())
+        + ",\"p50Ms\":" + transfers.percentileMs(50.0)
+        + ",\"p95Ms\":" + transfers.percentileMs(95.0)
+        + ",\"p99Ms\":" + transfers.percentileMs(99.0)
+        + ",\"maxMs\":" + transfers.maxMs()
+        + "}");
+    printCurve();
+  }
+
+  // The shared file keeps every run; the console shows only the latest run of each hot-set configuration.
+  private void printCurve() {
+    Map<String, Map<String, String>> latest = new HashMap<>();
+    for (Map<String, String> row : readRows()) {
+      if (simulationName.equals(row.get("simulation"))) {
+        latest.put(row.get("hotPayees") + "/" + row.get("payeeSkew") + "/" + row.get("hotPayers") + "/"
+            + row.get("payerSkew"), row);
+      }
+    }
+    List<Map<String, String>> curve = latest.values().stream()
+        .sorted(Comparator.<Map<String, String>>comparingInt(row -> Integer.parseInt(row.get("hotPayees")))
+            .thenComparingDouble(row -> Double.parseDouble(row.get("payeeSkew")))
+            .thenComparing(row -> row.get("hotPayers"))
+            .thenComparingDouble(row -> Double.parseDouble(row.get("payerSkew"))))
+        .toList();
+
+    System.out.println();
+    System.out.println("Hot-account contention, latest run per hot set (" + resultFile.toAbsolutePath() + ")");
+    System.out.printf("%10s %8s %10s %8s %10s %8s %8s %8s %8s %8s%n",
+        "hotPayees", "skew", "hotPayers", "skew", "transfers", "errors", "p50", "p95", "p99", "max");
+    for (Map<String, String> row : curve) {
+      System.out.printf("%10s %8s %10s %8s %10s %7s%% %6sms %6sms %6sms %6sms%n",
+          row.get("hotPayees"),
+          row.get("payeeSkew"),
+          row.get("hotPayers"),
+          row.get("payerSkew"),
+          row.get("transfers"),
+          row.get("errorRatePercent"),
+          row.get("p50Ms"),
+          row.get("p95Ms"),
+          row.get("p99Ms"),
+          row.get("maxMs"));
+    }
+  }
+
+  private List<Map<String, String>> readRows() {
+    try (Stream<String> lines = Files.lines(resultFile, StandardCharsets.UTF_8)) {
+      return lines.filter(line -> !line.isBlank())
+          .map(HotspotReport::fields)
+          .toList();
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to read " + resultFile, exception);
+    }
+  }
+
+  private static Map<String, String> fields(String line) {
+    Map<String, String> fields = new HashMap<>();
+    Matcher matcher = FIELD.matcher(line);
+    while (matcher.find()) {
+      fields.put(matcher.group(1), matcher.group(2));
+    }
+    return fields;
+  }
+}
@@ -0,0 +1,63 @@
+package com.example.fintech.perf.metrics;
+
+import com.example.fintech.perf.config.InjectionPhase;
+
+import java.util.List;
+
+public final class InjectionSchedule {
+
+  private final List<InjectionPhase> phases;
+  private final long[] firstUserOfPhase;
+  private final double[] phaseStartSeconds;
+  private final long totalUsers;
+
+  public InjectionSchedule(List<InjectionPhase> phases) {
+    this.phases = List.copyOf(phases);
+    this.firstUserOfPhase = new long[phases.size()];
+    this.phaseStartSeconds = new double[phases.size()];
+
+    long users = 0;
+    double seconds = 0;
+    for (int index = 0; index < phases.size(); index++) {
+      firstUserOfPhase[index] = users;
+      phaseStartSeconds[index] = seconds;
+      users += phases.get(index).users();
+      seconds += phases.get(index).seconds();
+    }
+    this.totalUsers = users;
+  }
+
+  public long totalUsers() {
+    return totalUsers;
+  }
+
+  // Number of users the open model intended to have started by the given offset from the start of injection.
+  public long usersIntendedBy(long offsetMs) {
+    long low = 0;
+    long high = totalUsers;
+    while (low < high) {
+      long middle = (low + high) >>> 1;
+      if (intendedStartOffsetMs(middle) <= offsetMs) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  // Offset from the start of injection at which the open model intended to start the given user, or -1.
+  public long intendedStartOffsetMs(long userIndex) {
+    if (userIndex < 0 || userIndex >= totalUsers) {
+      return -1;
+    }
+
+    int phase = phases.size() - 1;
+    while (firstUserOfPhase[phase] > userIndex) {
+      phase--;
+    }
+    double offsetSeconds = phaseStartSeconds[phase]
+        + phases.get(phase).offsetSecondsOf(userIndex - firstUserOfPhase[phase]);
+    return Math.round(offsetSeconds * 1_000.0);
+  }
+}
@@ -0,0 +1,233 @@
+package com.example.fintech.perf.metrics;
+
+import com.example.fintech.perf.config.InjectorHealthSettings;
+import com.example.fintech.perf.config.PerfConfig;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+final class InjectorHealth implements ResponseListener {
+
+  private static final String COST_FILE = "injector-cost.jsonl";
+  private static final long SAMPLE_INTERVAL_MS = 1_000;
+  private static final long HICCUP_RESOLUTION_MS = 10;
+  private static final long HIGHEST_LAG_MICROS = 60_000_000;
+  // The first seconds of a run are dominated by class loading and JIT compilation in the injector itself.
+  private static final int SETTLE_SAMPLES = 10;
+  private static final long MIN_ARRIVAL_CHECK_MS = 10_000;
+
+  private final InjectorHealthSettings settings;
+  private final String simulationName;
+  private final String profile;
+  private final String validation;
+  private final Path costFile;
+  private final InjectionSchedule schedule;
+  private final com.sun.management.OperatingSystemMXBean os =
+      (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+  private final Histogram cpuPercent = new Histogram(100, 2);
+  private final Histogram gcPercent = new Histogram(100, 2);
+  private final Recorder lagRecorder = new Recorder(HIGHEST_LAG_MICROS, 2);
+  private final Histogram lagMicros = new Histogram(HIGHEST_LAG_MICROS, 2);
+  private final ScheduledExecutorService sampler;
+  private final Thread hiccupMeter;
+  private final LongAdder measuredRequests = new LongAdder();
+
+  private volatile long measureStartMs;
+  private volatile long firstUserId = 1;
+  private volatile long latestUserIndex = -1;
+  private volatile long latestUserStartMs;
+  private volatile long measureStartCpuNanos = os.getProcessCpuTime();
+  private long lastGcMs = totalGcMs();
+  private long lastSampleMs;
+  private int samples;
+  private boolean aborted;
+
+  InjectorHealth(PerfConfig config, String simulationName, InjectionSchedule schedule, long runStartMs) {
+    this.settings = config.injectorHealth();
+    this.simulationName = simulationName;
+    this.profile = config.profile().name().toLowerCase(Locale.ROOT);
+    this.validation = config.validation().describe();
+    this.costFile = ResultFiles.sharedFile(config.resultsDir(), COST_FILE);
+    this.schedule = schedule;
+    this.measureStartMs = runStartMs;
+    this.lastSampleMs = runStartMs;
+    this.sampler = MetricThreads.scheduler("injector-health");
+    sampler.scheduleAtFixedRate(this::sampleSafely, SAMPLE_INTERVAL_MS, SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    this.hiccupMeter = new Thread(this::measureHiccups, "injector-hiccups");
+    hiccupMeter.setDaemon(true);
+    hiccupMeter.start();
+  }
+
+  @Override
+  public void onMeasurementStart(long firstUserId, long startMs) {
+    this.firstUserId = firstUserId;
+    this.measureStartMs = startMs;
+    this.measureStartCpuNanos = os.getProcessCpuTime();
+    measuredRequests.reset();
+  }
+
+  @Override
+  public void onResponse(ResponseSample sample) {
+    measuredRequests.increment();
+    if (schedule == null) {
+      return;
+    }
+    long userIndex = sample.userId() - firstUserId;
+    if (userIndex > latestUserIndex) {
+      synchronized (this) {
+        if (userIndex > latestUserIndex) {
+          latestUserIndex = userIndex;
+          latestUserStartMs = sample.journeyStartMs();
+        }
+      }
+    }
+  }
+
+  @Override
+  public void onRunEnd() {
+    sampler.shutdownNow();
+    hiccupMeter.interrupt();
+    List<String> reasons = saturationReasons();
+    long requests = measuredRequests.sum();
+    double cpuMs = Math.max(0, os.getProcessCpuTime() - measureStartCpuNanos) / 1_000_000.0;
+    double cpuMicrosPerRequest = requests == 0 ? 0.0 : cpuMs * 1_000.0 / requests;
+
+    System.out.println();
+    System.out.println("Injector health (this JVM)");
+    System.out.printf("  cpu p90 %s%%, gc p90 %s%% of wall time, scheduling lag p99 %sms, achieved arrivals %s%n",
+        ResultFiles.number(cpuPercent.getValueAtPercentile(90.0)),
+        ResultFiles.number(gcPercent.getValueAtPercentile(90.0)),
+        ResultFiles.number(lagP99Ms()),
+        achievedRatePercent() < 0 ? "n/a" : ResultFiles.number(achievedRatePercent()) + "% of intended");
+    System.out.printf("  cpu per request %sus over %d requests (validation %s)%n",
+        ResultFiles.number(cpuMicrosPerRequest), requests, validation);
+    System.out.println(reasons.isEmpty()
+        ? "  OK: latencies reflect the backend"
+        : "  SATURATED: latencies include injector delay, do not compare this run (" + String.join("; ", reasons) + ")");
+
+    if (requests > 0) {
+      ResultFiles.appendLine(costFile, "{\"simulation\":\"" + simulationName + "\""
+          + ",\"timestamp\":\"" + Instant.now() + "\""
+          + ",\"profile\":\"" + profile + "\""
+          + ",\"validation\":\"" + validation + "\""
+          + ",\"requests\":" + requests
+          + ",\"cpuMs\":" + ResultFiles.number(cpuMs)
+          + ",\"cpuMicrosPerRequest\":" + ResultFiles.number(cpuMicrosPerRequest)
+          + ",\"saturated\":" + !reasons.isEmpty()
+          + "}");
+      System.out.println("Injector cost: " + costFile.toAbsolutePath());
+    }
+  }
+
+  synchronized boolean saturated() {
+    return !saturationReasons().isEmpty();
+  }
+
+  private synchronized List<String> saturationReasons() {
+    List<String> reasons = new ArrayList<>();
+    if (samples <= SETTLE_SAMPLES) {
+      return reasons;
+    }
+    double cpu = cpuPercent.getValueAtPercentile(90.0);
+    if (cpu > settings.maxCpuPercent()) {
+      reasons.add("cpu p90 " + ResultFiles.number(cpu) + "% > " + ResultFiles.number(settings.maxCpuPercent()) + "%");
+    }
+    double gc = gcPercent.getValueAtPercentile(90.0);
+    if (gc > settings.maxGcPercent()) {
+      reasons.add("gc p90 " + ResultFiles.number(gc) + "% > " + ResultFiles.number(settings.maxGcPercent()) + "%");
+    }
+    double lag = lagP99Ms();
+    if (lag > settings.maxSchedulingLagMs()) {
+      reasons.add("scheduling lag p99 " + ResultFiles.number(lag) + "ms > " + settings.maxSchedulingLagMs() + "ms");
+    }
+    double achieved = achievedRatePercent();
+    if (achieved >= 0 && achieved < settings.minAchievedRatePercent()) {
+      reasons.add("achieved arrivals " + ResultFiles.number(achieved) + "% < "
+          + ResultFiles.number(settings.minAchievedRatePercent()) + "%");
+    }
+    return reasons;
+  }
+
+  // Users started by the latest observed arrival versus users the open model meant to start by then.
+  private double achievedRatePercent() {
+    long elapsedMs = latestUserStartMs - measureStartMs;
+    if (schedule == null || latestUserIndex < 0 || elapsedMs < MIN_ARRIVAL_CHECK_MS) {
+      return -1;
+    }
+    long intended = schedule.usersIntendedBy(elapsedMs);
+    return intended == 0 ? -1 : Math.min(100.0, (latestUserIndex + 1) * 100.0 / intended);
+  }
+
+  private double lagP99Ms() {
+    return lagMicros.getValueAtPercentile(99.0) / 1_000.0;
+  }
+
+  private void sampleSafely() {
+    try {
+      sample();
+    } catch (RuntimeException exception) {
+      System.err.println("Unable to sample injector health: " + exception.getMessage());
+    }
+  }
+
+  private synchronized void sample() {
+    long nowMs = System.currentTimeMillis();
+    long gcMs = totalGcMs();
+    long elapsedMs = Math.max(1, nowMs - lastSampleMs);
+    double cpu = os.getProcessCpuLoad();
+    lagMicros.add(lagRecorder.getIntervalHistogram());
+    samples++;
+    if (samples > SETTLE_SAMPLES) {
+      if (cpu >= 0) {
+        cpuPercent.recordValue(Math.round(cpu * 100.0));
+      }
+      gcPercent.recordValue(Math.min(100, Math.round((gcMs - lastGcMs) * 100.0 / elapsedMs)));
+    } else {
+      lagMicros.reset();
+    }
+    lastGcMs = gcMs;
+    lastSampleMs = nowMs;
+
+    if (settings.failOnSaturation() && !aborted) {
+      List<String> reasons = saturationReasons();
+      if (!reasons.isEmpty()) {
+        aborted = true;
+        RunControl.requestAbort("injector saturated: " + String.join("; ", reasons));
+      }
+    }
+  }
+
+  // Sleeps for a fixed period and records how late it wakes up: any stall of the JVM, such as GC or CPU
+  // starvation, delays Gatling's own timers by the same amount.
+  private void measureHiccups() {
+    long resolutionNanos = TimeUnit.MILLISECONDS.toNanos(HICCUP_RESOLUTION_MS);
+    while (!Thread.currentThread().isInterrupted()) {
+      long expectedWake = System.nanoTime() + resolutionNanos;
+      try {
+        Thread.sleep(HICCUP_RESOLUTION_MS);
+      } catch (InterruptedException exception) {
+        return;
+      }
+      long lateMicros = (System.nanoTime() - expectedWake) / 1_000;
+      lagRecorder.recordValue(Math.min(HIGHEST_LAG_MICROS, Math.max(0, lateMicros)));
+    }
+  }
+
+  private static long totalGcMs() {
+    long total = 0;
+    for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+      total += Math.max(0, collector.getCollectionTime());
+    }
+    return total;
+  }
+}
@@ -0,0 +1,148 @@
+package com.example.fintech.perf.metrics;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.FileNotFoundException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class LatencyHistograms implements ResponseListener {
+
+  private static final String UNCORRECTED_SUFFIX = ".uncorrected";
+  // Histograms hold milliseconds, so the log's max-value column needs no unit conversion.
+  private static final double MAX_VALUE_UNIT_RATIO = 1.0;
+
+  private final String simulationName;
+  private final Path resultsDir;
+  private final boolean correct;
+  private final InjectionSchedule schedule;
+  private final Map<String, RequestHistograms> histograms = new ConcurrentHashMap<>();
+
+  private volatile long runStartMs;
+  private volatile long firstUserId = 1;
+
+  LatencyHistograms(String simulationName, Path resultsDir, InjectionSchedule schedule, long runStartMs,
+      boolean correct) {
+    this.simulationName = simulationName;
+    this.resultsDir = resultsDir;
+    this.schedule = schedule;
+    this.runStartMs = runStartMs;
+    this.correct = correct;
+  }
+
+  // A user that starts late behind the open model's schedule sends its first request late, so that request is
+  // measured from the user's intended arrival. A paced loop request that comes back slower than its cadence
+  // hides the iterations the user would have sent meanwhile; those are back-filled at the cadence.
+  @Override
+  public void onResponse(ResponseSample sample) {
+    RequestHistograms request = histograms.computeIfAbsent(sample.requestName(), name -> new RequestHistograms());
+    request.uncorrected.recordValue(sample.latencyMs());
+    if (!correct) {
+      request.corrected.recordValue(sample.latencyMs());
+      return;
+    }
+
+    long latencyMs = sample.latencyMs() + arrivalDelayMs(sample);
+    if (sample.expectedIntervalMs() > 0) {
+      request.corrected.recordValueWithExpectedInterval(latencyMs, sample.expectedIntervalMs());
+    } else {
+      request.corrected.recordValue(latencyMs);
+    }
+  }
+
+  @Override
+  public void onMeasurementStart(long firstUserId, long startMs) {
+    this.firstUserId = firstUserId;
+    this.runStartMs = startMs;
+  }
+
+  @Override
+  public void onRunEnd() {
+    if (histograms.isEmpty()) {
+      return;
+    }
+
+    Map<String, Histogram> byTag = new TreeMap<>();
+    histograms.forEach((name, request) -> {
+      byTag.put(name, request.corrected);
+      byTag.put(name + UNCORRECTED_SUFFIX, request.uncorrected);
+    });
+    Path logFile = ResultFiles.newFile(resultsDir, simulationName, "latency", "hlog");
+    writeLog(logFile, simulationName, runStartMs, System.currentTimeMillis(), byTag);
+    printSummary(byTag, logFile);
+  }
+
+  // Delay of a user's first request behind the arrival the open model scheduled for that user.
+  private long arrivalDelayMs(ResponseSample sample) {
+    if (schedule == null || sample.sentAtMs() != sample.journeyStartMs()) {
+      return 0;
+    }
+    long intendedOffsetMs = schedule.intendedStartOffsetMs(sample.userId() - firstUserId);
+    if (intendedOffsetMs < 0) {
+      return 0;
+    }
+    return Math.max(0, sample.sentAtMs() - (runStartMs + intendedOffsetMs));
+  }
+
+  static void writeLog(Path logFile, String simulationName, long startMs, long endMs, Map<String, Histogram> byTag) {
+    try {
+      HistogramLogWriter writer = new HistogramLogWriter(logFile.toFile());
+      writer.outputLogFormatVersion();
+      writer.outputStartTime(startMs);
+      writer.setBaseTime(startMs);
+      writer.outputComment("simulation=" + simulationName + " unit=ms corrected=intended-arrival+paced-interval");
+      writer.outputLegend();
+      byTag.forEach((tag, histogram) -> {
+        Histogram interval = histogram.copy();
+        interval.setTag(tag);
+        interval.setStartTimeStamp(startMs);
+        interval.setEndTimeStamp(endMs);
+        writer.outputIntervalHistogram(0.0, (endMs - startMs) / 1_000.0, interval, MAX_VALUE_UNIT_RATIO);
+      });
+      writer.close();
+    } catch (FileNotFoundException exception) {
+      throw new UncheckedIOException("Unable to write " + logFile, exception);
+    }
+  }
+
+  static void printSummary(Map<String, Histogram> byTag, Path logFile) {
+    // Without late arrivals or slow paced requests there is nothing to correct, and the summary says so.
+    boolean anyCorrected = byTag.entrySet().stream().anyMatch(entry -> {
+      Histogram uncorrected = byTag.get(entry.getKey() + UNCORRECTED_SUFFIX);
+      return uncorrected != null && !uncorrected.equals(entry.getValue());
+    });
+    System.out.println();
+    System.out.println(anyCorrected
+        ? "Latency histograms (ms, corrected for coordinated omission / uncorrected)"
+        : "Latency histograms (ms, corrected / uncorrected; no coordinated omission was found to correct)");
+    System.out.printf("%-32s %10s %14s %14s %14s %14s%n", "request", "count", "p50", "p99", "p99.9", "max");
+    byTag.forEach((tag, corrected) -> {
+      Histogram uncorrected = byTag.get(tag + UNCORRECTED_SUFFIX);
+      if (tag.endsWith(UNCORRECTED_SUFFIX) || uncorrected == null) {
+        return;
+      }
+      System.out.printf("%-32s %10d %14s %14s %14s %14s%n",
+          tag,
+          corrected.getTotalCount(),
+          pair(corrected, uncorrected, 50.0),
+          pair(corrected, uncorrected, 99.0),
+          pair(corrected, uncorrected, 99.9),
+          corrected.getMaxValue() + "/" + uncorrected.getMaxValue());
+    });
+    System.out.println("HdrHistogram log: " + logFile.toAbsolutePath());
+  }
+
+  private static String pair(Histogram corrected, Histogram uncorrected, double percentile) {
+    return corrected.getValueAtPercentile(percentile) + "/" + uncorrected.getValueAtPercentile(percentile);
+  }
+
+  private static final class RequestHistograms {
+    private final Histogram corrected = new ConcurrentHistogram(LatencyStats.SIGNIFICANT_DIGITS);
+    private final Histogram uncorrected = new ConcurrentHistogram(LatencyStats.SIGNIFICANT_DIGITS);
+  }
+}
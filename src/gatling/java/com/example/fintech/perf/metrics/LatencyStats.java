@@ -0,0 +1,54 @@
+package com.example.fintech.perf.metrics;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class LatencyStats {
+
+  public static final long HIGHEST_TRACKABLE_LATENCY_MS = 60_000;
+  public static final int SIGNIFICANT_DIGITS = 3;
+
+  private final ConcurrentHistogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_LATENCY_MS, SIGNIFICANT_DIGITS);
+  private final LongAdder ok = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+
+  public void record(long latencyMs, boolean success) {
+    latency.recordValue(clamp(latencyMs));
+    if (success) {
+      ok.increment();
+    } else {
+      failed.increment();
+    }
+  }
+
+  public long total() {
+    return ok.sum() + failed.sum();
+  }
+
+  public long failed() {
+    return failed.sum();
+  }
+
+  public long percentileMs(double percentile) {
+    return latency.getValueAtPercentile(percentile);
+  }
+
+  public long maxMs() {
+    return latency.getMaxValue();
+  }
+
+  public Histogram snapshot() {
+    return latency.copy();
+  }
+
+  public double errorRatePercent() {
+    long total = total();
+    return total == 0 ? 0.0 : failed.sum() * 100.0 / total;
+  }
+
+  public static long clamp(long latencyMs) {
+    return Math.min(Math.max(latencyMs, 0), HIGHEST_TRACKABLE_LATENCY_MS);
+  }
+}
@@ -0,0 +1,54 @@
+package com.example.fintech.perf.metrics;
+
+// Running least-squares fit: constant memory however many windows a run produces.
+final class LinearTrend {
+
+  private long points;
+  private double sumX;
+  private double sumY;
+  private double sumXx;
+  private double sumYy;
+  private double sumXy;
+
+  synchronized void add(double x, double y) {
+    points++;
+    sumX += x;
+    sumY += y;
+    sumXx += x * x;
+    sumYy += y * y;
+    sumXy += x * y;
+  }
+
+  synchronized long points() {
+    return points;
+  }
+
+  synchronized double slope() {
+    double denominator = points * sumXx - sumX * sumX;
+    return points < 2 || denominator == 0 ? 0.0 : (points * sumXy - sumX * sumY) / denominator;
+  }
+
+  synchronized double intercept() {
+    return points == 0 ? 0.0 : (sumY - slope() * sumX) / points;
+  }
+
+  synchronized double meanX() {
+    return points == 0 ? 0.0 : sumX / points;
+  }
+
+  // Pearson correlation of x and y; 0 when either one never varied.
+  synchronized double correlation() {
+    double varianceX = points * sumXx - sumX * sumX;
+    double varianceY = points * sumYy - sumY * sumY;
+    if (points < 2 || varianceX <= 0 || varianceY <= 0) {
+      return 0.0;
+    }
+    return (points * sumXy - sumX * sumY) / Math.sqrt(varianceX * varianceY);
+  }
+
+  // Slope relative to the fitted starting level, so limits apply equally to fast and slow requests.
+  synchronized double percentPerUnit() {
+    double start = intercept();
+    return start <= 0 ? 0.0 : slope() * 100.0 / start;
+  }
+}
@@ -0,0 +1,165 @@
+package com.example.fintech.perf.metrics;
+
+import com.example.fintech.perf.config.LiveMetricsSettings;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+final class LiveMetrics implements ResponseListener {
+
+  private static final String ALL_REQUESTS = "all";
+  private static final String WARMUP_PREFIX = "warmup.";
+  private static final String HEADER =
+      "windowStartMs,elapsedSec,request,count,failed,rps,errorRatePercent,p50Ms,p95Ms,p99Ms,maxMs";
+  private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private final long runStartMs;
+  private final Path seriesFile;
+  private final Window all = new Window();
+  private final Map<String, Window> windows = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService flusher;
+  private final HttpServer endpoint;
+
+  private long windowStartMs;
+  private volatile String lastScrape = "";
+
+  LiveMetrics(LiveMetricsSettings settings, String simulationName, Path resultsDir, long runStartMs) {
+    this.runStartMs = runStartMs;
+    this.windowStartMs = runStartMs;
+    this.seriesFile = ResultFiles.newFile(resultsDir, simulationName, "timeseries", "csv");
+    ResultFiles.appendLine(seriesFile, HEADER);
+
+    this.flusher = MetricThreads.scheduler("live-metrics");
+    flusher.scheduleAtFixedRate(this::flushSafely, settings.windowMs(), settings.windowMs(), TimeUnit.MILLISECONDS);
+    this.endpoint = settings.endpointEnabled() ? startEndpoint(settings.port()) : null;
+    System.out.println("Live metrics: " + settings.windowSeconds() + "s windows -> " + seriesFile.toAbsolutePath()
+        + (endpoint == null ? "" : " and http://localhost:" + settings.port() + "/metrics"));
+  }
+
+  @Override
+  public boolean acceptsWarmup() {
+    return true;
+  }
+
+  @Override
+  public void onResponse(ResponseSample sample) {
+    String request = sample.warmup() ? WARMUP_PREFIX + sample.requestName() : sample.requestName();
+    if (!sample.warmup()) {
+      all.record(sample);
+    }
+    windows.computeIfAbsent(request, name -> new Window()).record(sample);
+  }
+
+  @Override
+  public void onRunEnd() {
+    flusher.shutdownNow();
+    flush(System.currentTimeMillis());
+    if (endpoint != null) {
+      endpoint.stop(0);
+    }
+  }
+
+  private void flushSafely() {
+    try {
+      flush(System.currentTimeMillis());
+    } catch (RuntimeException exception) {
+      // A failed write must not cancel the periodic flush for the rest of the run.
+      System.err.println("Unable to write live metrics: " + exception.getMessage());
+    }
+  }
+
+  private synchronized void flush(long nowMs) {
+    long windowMs = Math.max(1, nowMs - windowStartMs);
+    long elapsedSec = (windowStartMs - runStartMs) / 1_000;
+    StringBuilder scrape = new StringBuilder();
+    appendRow(ALL_REQUESTS, all, windowMs, elapsedSec, scrape);
+    new TreeMap<>(windows).forEach((name, window) -> appendRow(name, window, windowMs, elapsedSec, scrape));
+    lastScrape = scrape.toString();
+    windowStartMs = nowMs;
+  }
+
+  private void appendRow(String request, Window window, long windowMs, long elapsedSec, StringBuilder scrape) {
+    Histogram interval = window.drain();
+    long count = interval.getTotalCount();
+    long failed = Math.min(count, window.failed.sumThenReset());
+    double rps = count * 1_000.0 / windowMs;
+    double errorRatePercent = count == 0 ? 0.0 : failed * 100.0 / count;
+    ResultFiles.appendLine(seriesFile, String.join(",",
+        Long.toString(windowStartMs),
+        Long.toString(elapsedSec),
+        request,
+        Long.toString(count),
+        Long.toString(failed),
+        ResultFiles.number(rps),
+        ResultFiles.number(errorRatePercent),
+        Long.toString(interval.getValueAtPercentile(50.0)),
+        Long.toString(interval.getValueAtPercentile(95.0)),
+        Long.toString(interval.getValueAtPercentile(99.0)),
+        Long.toString(interval.getMaxValue())));
+
+    String label = "{request=\"" + request + "\"}";
+    scrape.append("perf_window_requests_per_second").append(label).append(' ').append(ResultFiles.number(rps)).append('\n');
+    scrape.append("perf_window_error_rate_percent").append(label).append(' ')
+        .append(ResultFiles.number(errorRatePercent)).append('\n');
+    for (double percentile : new double[] {50.0, 95.0, 99.0}) {
+      scrape.append("perf_window_latency_ms{request=\"").append(request)
+          .append("\",quantile=\"").append(String.format(Locale.ROOT, "%.2f", percentile / 100.0)).append("\"} ")
+          .append(interval.getValueAtPercentile(percentile)).append('\n');
+    }
+  }
+
+  private HttpServer startEndpoint(int port) {
+    try {
+      HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+      server.createContext("/metrics", this::scrape);
+      server.start();
+      return server;
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to bind live metrics endpoint on port " + port, exception);
+    }
+  }
+
+  private void scrape(HttpExchange exchange) throws IOException {
+    byte[] body = lastScrape.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+    exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+    try (OutputStream output = exchange.getResponseBody()) {
+      output.write(body);
+    }
+  }
+
+  private static final class Window {
+
+    private final Recorder latency = new Recorder(LatencyStats.HIGHEST_TRACKABLE_LATENCY_MS, LatencyStats.SIGNIFICANT_DIGITS);
+    private final LongAdder failed = new LongAdder();
+    private Histogram recycled;
+
+    void record(ResponseSample sample) {
+      latency.recordValue(LatencyStats.clamp(sample.latencyMs()));
+      if (!sample.ok()) {
+        failed.increment();
+      }
+    }
+
+    Histogram drain() {
+      recycled = latency.getIntervalHistogram(recycled);
+      return recycled;
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package com.example.fintech.perf.metrics;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+final class MetricThreads {
+
+  private MetricThreads() {
+    // utility class
+  }
+
+  static ScheduledExecutorService scheduler(String name) {
+    return Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, name);
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+}
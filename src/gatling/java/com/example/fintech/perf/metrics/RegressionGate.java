@@ -0,0 +1,156 @@
+package com.example.fintech.perf.metrics;
+
+import com.example.fintech.perf.config.PerfConfig;
+import com.example.fintech.perf.config.RegressionSettings;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public final class RegressionGate {
+
+  private static final double[] PERCENTILES = {50.0, 95.0, 99.0};
+
+  private final RegressionSettings settings;
+  private final String profile;
+  private final List<RunHistoryEntry> history;
+  private int missingBaselines;
+
+  private RegressionGate(PerfConfig config) {
+    this.settings = config.regression();
+    this.profile = config.profile().name().toLowerCase(Locale.ROOT);
+    this.history = RunHistory.load(config.resultsDir());
+  }
+
+  public static void main(String[] args) {
+    RegressionGate gate = new RegressionGate(PerfConfig.load());
+    int regressions = gate.evaluate();
+    if (regressions > 0 || gate.missingBaselines > 0) {
+      System.out.println("Regression gate failed: " + regressions + " regression(s), "
+          + gate.missingBaselines + " simulation(s) without a matching baseline");
+      System.exit(1);
+    }
+    System.out.println("Regression gate passed");
+  }
+
+  private int evaluate() {
+    System.out.printf(Locale.ROOT,
+        "Regression gate: profile=%s baseline=%s latencyTolerance=%s%% errorRateTolerance=%s%% significance=%s%n",
+        profile,
+        settings.baseline(),
+        ResultFiles.number(settings.latencyTolerancePercent()),
+        ResultFiles.number(settings.errorRateTolerancePercent()),
+        settings.significance());
+
+    Map<String, Map<String, List<RunHistoryEntry>>> runsBySimulation = history.stream()
+        .filter(entry -> entry.profile().equals(profile) && settings.includes(entry.simulation()))
+        .collect(Collectors.groupingBy(
+            RunHistoryEntry::simulation,
+            LinkedHashMap::new,
+            Collectors.groupingBy(RunHistoryEntry::runId, LinkedHashMap::new, Collectors.toList())));
+    if (runsBySimulation.isEmpty()) {
+      System.out.println("No stored runs for profile " + profile);
+      return 0;
+    }
+
+    int regressions = 0;
+    for (Map.Entry<String, Map<String, List<RunHistoryEntry>>> simulation : runsBySimulation.entrySet()) {
+      regressions += evaluateSimulation(simulation.getKey(), new ArrayList<>(simulation.getValue().values()));
+    }
+    return regressions;
+  }
+
+  private int evaluateSimulation(String simulation, List<List<RunHistoryEntry>> runs) {
+    List<RunHistoryEntry> current = runs.get(runs.size() - 1);
+    List<RunHistoryEntry> baseline = findBaseline(runs.subList(0, runs.size() - 1));
+    System.out.println();
+    if (current.get(0).injectorSaturated()) {
+      System.out.println(simulation + ": " + describe(current)
+          + " saturated its load generator; latencies are not comparable, not compared");
+      return 0;
+    }
+    if (baseline == null) {
+      if (!settings.comparesPreviousRun()) {
+        // An explicit baseline that is missing fails the gate, but the other simulations are still compared.
+        System.out.println(simulation + ": no " + profile + " run matches regression.baseline=" + settings.baseline());
+        missingBaselines++;
+        return 0;
+      }
+      System.out.println(simulation + ": " + describe(current) + " has no earlier run to compare with");
+      return 0;
+    }
+
+    System.out.println(simulation + ": " + describe(current) + " vs baseline " + describe(baseline));
+    Map<String, RunHistoryEntry> baselineRequests = baseline.stream()
+        .collect(Collectors.toMap(RunHistoryEntry::request, entry -> entry));
+    int regressions = 0;
+    for (RunHistoryEntry request : current) {
+      RunHistoryEntry reference = baselineRequests.get(request.request());
+      if (reference == null) {
+        System.out.printf("  %-32s new request, not compared%n", request.request());
+        continue;
+      }
+      regressions += compare(reference, request);
+    }
+    return regressions;
+  }
+
+  private List<RunHistoryEntry> findBaseline(List<List<RunHistoryEntry>> earlierRuns) {
+    for (int index = earlierRuns.size() - 1; index >= 0; index--) {
+      RunHistoryEntry run = earlierRuns.get(index).get(0);
+      if (run.injectorSaturated()) {
+        // Its latencies include load generator delay, so it cannot stand in for the backend's baseline.
+        continue;
+      }
+      if (settings.comparesPreviousRun()
+          || run.runId().equals(settings.baseline())
+          || run.gitCommit().startsWith(settings.baseline())) {
+        return earlierRuns.get(index);
+      }
+    }
+    return null;
+  }
+
+  private int compare(RunHistoryEntry baseline, RunHistoryEntry current) {
+    List<String> findings = new ArrayList<>();
+    double latencyPValue = Significance.slowerPValue(baseline.histogram(), current.histogram());
+    for (double percentile : PERCENTILES) {
+      long before = baseline.percentileMs(percentile);
+      long after = current.percentileMs(percentile);
+      double changePercent = before == 0 ? (after == 0 ? 0.0 : 100.0) : (after - before) * 100.0 / before;
+      if (changePercent > settings.latencyTolerancePercent() && latencyPValue < settings.significance()) {
+        findings.add(String.format(Locale.ROOT, "p%.0f %d->%dms (+%s%%, p=%.4f)",
+            percentile, before, after, ResultFiles.number(changePercent), latencyPValue));
+      }
+    }
+
+    double errorRateIncrease = current.errorRatePercent() - baseline.errorRatePercent();
+    double errorPValue = Significance.moreFailuresPValue(
+        baseline.failed(), baseline.count(), current.failed(), current.count());
+    if (errorRateIncrease > settings.errorRateTolerancePercent() && errorPValue < settings.significance()) {
+      findings.add(String.format(Locale.ROOT, "errors %s%%->%s%% (p=%.4f)",
+          ResultFiles.number(baseline.errorRatePercent()), ResultFiles.number(current.errorRatePercent()), errorPValue));
+    }
+
+    System.out.printf("  %-32s p95 %d->%dms p99 %d->%dms errors %s%%->%s%% rps %s->%s %s%n",
+        current.request(),
+        baseline.p95Ms(),
+        current.p95Ms(),
+        baseline.p99Ms(),
+        current.p99Ms(),
+        ResultFiles.number(baseline.errorRatePercent()),
+        ResultFiles.number(current.errorRatePercent()),
+        ResultFiles.number(baseline.requestsPerSec()),
+        ResultFiles.number(current.requestsPerSec()),
+        findings.isEmpty() ? "OK" : "REGRESSION " + String.join(", ", findings));
+    return findings.isEmpty() ? 0 : 1;
+  }
+
+  private static String describe(List<RunHistoryEntry> run) {
+    RunHistoryEntry first = run.get(0);
+    return first.runId() + " (" + first.gitCommit() + ")";
+  }
+}
@@ -0,0 +1,199 @@
+package com.example.fintech.perf.metrics;
+
+import com.example.fintech.perf.config.ResourceSamplingSettings;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+final class ResourceSampler implements ResponseListener {
+
+  private static final Pattern MEASUREMENT = Pattern.compile(
+      "\"statistic\"\\s*:\\s*\"(\\w+)\"\\s*,\\s*\"value\"\\s*:\\s*(-?[0-9][0-9.eE+-]*)");
+  private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+
+  private final String metricsUrl;
+  private final HttpClient client;
+  private final Duration timeout;
+  private final Path resultFile;
+  private final long runStartMs;
+  private final List<Gauge> gauges = List.of(
+      new Gauge("heapUsedMb", "jvm.memory.used?tag=area:heap", "VALUE", 1.0 / BYTES_PER_MB, false),
+      new Gauge("gcPauseMs", "jvm.gc.pause", "TOTAL_TIME", 1_000.0, true),
+      new Gauge("gcPauses", "jvm.gc.pause", "COUNT", 1.0, true),
+      new Gauge("cpuPercent", "process.cpu.usage", "VALUE", 100.0, false),
+      new Gauge("liveThreads", "jvm.threads.live", "VALUE", 1.0, false),
+      new Gauge("busyWebThreads", "tomcat.threads.busy", "VALUE", 1.0, false),
+      new Gauge("dbActive", "hikaricp.connections.active", "VALUE", 1.0, false),
+      new Gauge("dbPending", "hikaricp.connections.pending", "VALUE", 1.0, false));
+  private final Recorder latency = new Recorder(LatencyStats.HIGHEST_TRACKABLE_LATENCY_MS, LatencyStats.SIGNIFICANT_DIGITS);
+  private final ScheduledExecutorService sampler;
+
+  private Histogram recycled;
+  private boolean headerWritten;
+
+  ResourceSampler(ResourceSamplingSettings settings, String apiBaseUrl, String simulationName, Path resultsDir, long runStartMs) {
+    this.metricsUrl = apiBaseUrl.replaceAll("/+$", "") + settings.actuatorPath() + "/metrics/";
+    this.timeout = Duration.ofMillis(settings.timeoutMs());
+    this.client = HttpClient.newBuilder().connectTimeout(timeout).build();
+    this.resultFile = ResultFiles.newFile(resultsDir, simulationName, "resources", "csv");
+    this.runStartMs = runStartMs;
+    this.sampler = MetricThreads.scheduler("resource-sampler");
+    sampler.scheduleWithFixedDelay(this::sampleSafely, 0, settings.intervalMs(), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void onResponse(ResponseSample sample) {
+    latency.recordValue(LatencyStats.clamp(sample.latencyMs()));
+  }
+
+  @Override
+  public void onRunEnd() {
+    sampler.shutdownNow();
+    printSummary();
+  }
+
+  private void sampleSafely() {
+    try {
+      sample();
+    } catch (RuntimeException exception) {
+      System.err.println("Unable to sample backend resources: " + exception.getMessage());
+    }
+  }
+
+  private synchronized void sample() {
+    List<Gauge> available = gauges.stream().filter(gauge -> gauge.available).toList();
+    if (available.isEmpty()) {
+      return;
+    }
+
+    long nowMs = System.currentTimeMillis();
+    recycled = latency.getIntervalHistogram(recycled);
+    long p95 = recycled.getValueAtPercentile(95.0);
+    List<String> row = new ArrayList<>();
+    row.add(Long.toString(nowMs));
+    row.add(Long.toString((nowMs - runStartMs) / 1_000));
+    row.add(Long.toString(recycled.getTotalCount()));
+    row.add(Long.toString(p95));
+    for (Gauge gauge : gauges) {
+      Double value = gauge.available ? read(gauge) : null;
+      row.add(value == null ? "" : ResultFiles.number(value));
+      if (value != null && recycled.getTotalCount() > 0) {
+        gauge.record(value, p95);
+      }
+    }
+
+    if (gauges.stream().noneMatch(gauge -> gauge.available)) {
+      // Nothing answered, e.g. the stub backend or an actuator without the metrics endpoint.
+      System.out.println("Resource sampling disabled: no actuator metrics at " + metricsUrl);
+      sampler.shutdown();
+      return;
+    }
+    if (!headerWritten) {
+      List<String> header = new ArrayList<>(List.of("sampledAtMs", "elapsedSec", "requests", "p95Ms"));
+      gauges.forEach(gauge -> header.add(gauge.column));
+      ResultFiles.appendLine(resultFile, String.join(",", header));
+      headerWritten = true;
+    }
+    ResultFiles.appendLine(resultFile, String.join(",", row));
+  }
+
+  private Double read(Gauge gauge) {
+    HttpResponse<String> response;
+    try {
+      response = client.send(
+          HttpRequest.newBuilder(URI.create(metricsUrl + gauge.metric)).timeout(timeout).GET().build(),
+          HttpResponse.BodyHandlers.ofString());
+    } catch (IOException exception) {
+      // A slow or briefly unreachable backend leaves a gap instead of disabling the metric.
+      return null;
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      return null;
+    }
+    if (response.statusCode() != 200) {
+      gauge.available = false;
+      return null;
+    }
+
+    Matcher matcher = MEASUREMENT.matcher(response.body());
+    while (matcher.find()) {
+      if (gauge.statistic.equals(matcher.group(1))) {
+        return gauge.toValue(Double.parseDouble(matcher.group(2)) * gauge.scale);
+      }
+    }
+    gauge.available = false;
+    return null;
+  }
+
+  private synchronized void printSummary() {
+    if (!headerWritten) {
+      return;
+    }
+
+    System.out.println();
+    System.out.println("Backend resources (per sample; r = correlation with the sample's request p95)");
+    System.out.printf("%-16s %12s %12s %8s%n", "metric", "avg", "max", "r");
+    for (Gauge gauge : gauges) {
+      if (gauge.samples.points() == 0) {
+        System.out.printf("%-16s %12s%n", gauge.column, "n/a");
+        continue;
+      }
+      System.out.printf("%-16s %12s %12s %8s%n",
+          gauge.column,
+          ResultFiles.number(gauge.samples.meanX()),
+          ResultFiles.number(gauge.max),
+          ResultFiles.number(gauge.samples.correlation()));
+    }
+    System.out.println("Resource samples: " + resultFile.toAbsolutePath());
+  }
+
+  private static final class Gauge {
+
+    private final String column;
+    private final String metric;
+    private final String statistic;
+    private final double scale;
+    private final boolean cumulative;
+    private final LinearTrend samples = new LinearTrend();
+
+    private volatile boolean available = true;
+    private Double previous;
+    private double max;
+
+    Gauge(String column, String metric, String statistic, double scale, boolean cumulative) {
+      this.column = column;
+      this.metric = metric;
+      this.statistic = statistic;
+      this.scale = scale;
+      this.cumulative = cumulative;
+    }
+
+    // Counters such as total GC pause time are turned into the amount added since the previous sample.
+    Double toValue(double reading) {
+      if (!cumulative) {
+        return reading;
+      }
+      Double delta = previous == null ? null : Math.max(0.0, reading - previous);
+      previous = reading;
+      return delta;
+    }
+
+    void record(double value, long p95Ms) {
+      samples.add(value, p95Ms);
+      max = Math.max(max, value);
+    }
+  }
+}
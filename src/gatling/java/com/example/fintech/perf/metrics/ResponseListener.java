@@ -0,0 +1,18 @@
+package com.example.fintech.perf.metrics;
+
+public interface ResponseListener {
+
+  void onResponse(ResponseSample sample);
+
+  default boolean acceptsWarmup() {
+    return false;
+  }
+
+  default void onMeasurementStart(long firstUserId, long startMs) {
+    // runs without a warm-up measure from the start
+  }
+
+  default void onRunEnd() {
+    // nothing to flush by default
+  }
+}
@@ -0,0 +1,13 @@
+package com.example.fintech.perf.metrics;
+
+public record ResponseSample(
+    String requestName,
+    long userId,
+    long journeyStartMs,
+    long sentAtMs,
+    long latencyMs,
+    long expectedIntervalMs,
+    boolean ok,
+    boolean warmup
+) {
+}
@@ -0,0 +1,54 @@
+package com.example.fintech.perf.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+public final class ResultFiles {
+
+  private static final DateTimeFormatter RUN_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+  private ResultFiles() {
+    // utility class
+  }
+
+  public static Path newFile(Path resultsDir, String simulationName, String kind, String extension) {
+    String fileName = simulationName.toLowerCase(Locale.ROOT)
+        + "-" + kind
+        + "-" + timestamp()
+        + "." + extension;
+    return sharedFile(resultsDir, fileName);
+  }
+
+  public static String timestamp() {
+    return LocalDateTime.now().format(RUN_ID_FORMAT);
+  }
+
+  public static Path sharedFile(Path resultsDir, String fileName) {
+    try {
+      Files.createDirectories(resultsDir);
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to create results directory " + resultsDir, exception);
+    }
+    return resultsDir.resolve(fileName);
+  }
+
+  public static void appendLine(Path file, String line) {
+    try {
+      Files.writeString(file, line + System.lineSeparator(), StandardCharsets.UTF_8,
+          StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to write " + file, exception);
+    }
+  }
+
+  public static String number(double value) {
+    return String.format(Locale.ROOT, "%.2f", value);
+  }
+}
@@ -0,0 +1,157 @@
+package com.example.fintech.perf.metrics;
+
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+public final class ResultMerger {
+
+  private ResultMerger() {
+    // utility class
+  }
+
+  public static void mergeLatencyLogs(List<Path> injectorDirs, Path resultsDir, String simulationName) {
+    Map<String, Histogram> byTag = new TreeMap<>();
+    long startMs = Long.MAX_VALUE;
+    long endMs = Long.MIN_VALUE;
+    for (Path injectorDir : injectorDirs) {
+      Optional<Path> logFile = latestLatencyLog(injectorDir, simulationName);
+      if (logFile.isEmpty()) {
+        System.out.println("No latency log found in " + injectorDir.toAbsolutePath());
+        continue;
+      }
+
+      for (Histogram histogram : readHistograms(logFile.get())) {
+        byTag.computeIfAbsent(histogram.getTag(), tag -> new Histogram(LatencyStats.SIGNIFICANT_DIGITS))
+            .add(histogram);
+        startMs = Math.min(startMs, histogram.getStartTimeStamp());
+        endMs = Math.max(endMs, histogram.getEndTimeStamp());
+      }
+    }
+    if (byTag.isEmpty()) {
+      return;
+    }
+
+    Path mergedFile = ResultFiles.newFile(resultsDir, simulationName, "latency-merged", "hlog");
+    LatencyHistograms.writeLog(mergedFile, simulationName, startMs, endMs, byTag);
+    LatencyHistograms.printSummary(byTag, mergedFile);
+  }
+
+  public static void mergeRunHistory(List<Path> injectorDirs, Path resultsDir, String simulationName, String runId) {
+    Map<String, List<RunHistoryEntry>> byRequest = new TreeMap<>();
+    for (Path injectorDir : injectorDirs) {
+      latestRun(RunHistory.load(injectorDir), simulationName)
+          .forEach(entry -> byRequest.computeIfAbsent(entry.request(), request -> new ArrayList<>()).add(entry));
+    }
+    if (byRequest.isEmpty()) {
+      System.out.println("No run history recorded by the injectors; nothing merged");
+      return;
+    }
+
+    List<RunHistoryEntry> merged = byRequest.values().stream()
+        .map(entries -> merge(runId, entries))
+        .toList();
+    Path historyFile = ResultFiles.sharedFile(resultsDir, RunHistory.FILE_NAME);
+    RunHistory.append(historyFile, merged);
+    System.out.println("Run history: " + runId + " merged from " + injectorDirs.size()
+        + " injectors into " + historyFile.toAbsolutePath());
+  }
+
+  private static RunHistoryEntry merge(String runId, List<RunHistoryEntry> entries) {
+    RunHistoryEntry first = entries.get(0);
+    Histogram histogram = new Histogram(LatencyStats.SIGNIFICANT_DIGITS);
+    long startedAtMs = Long.MAX_VALUE;
+    long finishedAtMs = Long.MIN_VALUE;
+    long count = 0;
+    long failed = 0;
+    boolean saturated = false;
+    for (RunHistoryEntry entry : entries) {
+      histogram.add(entry.histogram());
+      startedAtMs = Math.min(startedAtMs, entry.startedAtMs());
+      finishedAtMs = Math.max(finishedAtMs, entry.startedAtMs() + entry.durationMs());
+      count += entry.count();
+      failed += entry.failed();
+      saturated |= entry.injectorSaturated();
+    }
+    long durationMs = Math.max(1, finishedAtMs - startedAtMs);
+
+    return new RunHistoryEntry(
+        runId,
+        first.simulation(),
+        first.profile(),
+        first.gitCommit(),
+        startedAtMs,
+        durationMs,
+        first.request(),
+        count,
+        failed,
+        count * 1_000.0 / durationMs,
+        histogram.getValueAtPercentile(50.0),
+        histogram.getValueAtPercentile(95.0),
+        histogram.getValueAtPercentile(99.0),
+        histogram.getMaxValue(),
+        histogram,
+        saturated);
+  }
+
+  private static List<RunHistoryEntry> latestRun(List<RunHistoryEntry> history, String simulationName) {
+    String latestRunId = history.stream()
+        .filter(entry -> entry.simulation().equals(simulationName))
+        .reduce((previous, next) -> next)
+        .map(RunHistoryEntry::runId)
+        .orElse(null);
+    if (latestRunId == null) {
+      return List.of();
+    }
+    return history.stream()
+        .filter(entry -> entry.runId().equals(latestRunId))
+        .toList();
+  }
+
+  private static Optional<Path> latestLatencyLog(Path injectorDir, String simulationName) {
+    if (!Files.isDirectory(injectorDir)) {
+      return Optional.empty();
+    }
+
+    String prefix = simulationName.toLowerCase(Locale.ROOT) + "-latency-";
+    try (Stream<Path> files = Files.list(injectorDir)) {
+      return files
+          .filter(file -> file.getFileName().toString().startsWith(prefix))
+          .filter(file -> file.getFileName().toString().endsWith(".hlog"))
+          .max(Comparator.comparing(file -> file.getFileName().toString()));
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to list " + injectorDir, exception);
+    }
+  }
+
+  private static List<Histogram> readHistograms(Path logFile) {
+    List<Histogram> histograms = new ArrayList<>();
+    try {
+      HistogramLogReader reader = new HistogramLogReader(logFile.toFile());
+      while (reader.hasNext()) {
+        EncodableHistogram histogram = reader.nextIntervalHistogram();
+        if (histogram instanceof Histogram intervalHistogram && intervalHistogram.getTag() != null) {
+          histograms.add(intervalHistogram);
+        }
+      }
+      reader.close();
+    } catch (FileNotFoundException exception) {
+      throw new UncheckedIOException("Unable to read " + logFile, exception);
+    }
+    return histograms;
+  }
+}
@@ -0,0 +1,43 @@
+package com.example.fintech.perf.metrics;
+
+public final class RunControl {
+
+  private static volatile String stopReason;
+  private static volatile boolean failed;
+
+  private RunControl() {
+    // utility class
+  }
+
+  public static void requestStop(String reason) {
+    if (stopReason == null) {
+      stopReason = reason;
+      System.out.println("Stopping load generator: " + reason);
+    }
+  }
+
+  public static void requestAbort(String reason) {
+    if (stopReason == null) {
+      failed = true;
+      stopReason = reason;
+      System.out.println("Aborting run: " + reason);
+    }
+  }
+
+  public static boolean stopRequested() {
+    return stopReason != null;
+  }
+
+  public static boolean abortRequested() {
+    return failed;
+  }
+
+  public static String stopReason() {
+    return stopReason;
+  }
+
+  static void reset() {
+    stopReason = null;
+    failed = false;
+  }
+}
@@ -0,0 +1,106 @@
+package com.example.fintech.perf.metrics;
+
+import com.example.fintech.perf.config.PerfConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+final class RunHistory implements ResponseListener {
+
+  static final String FILE_NAME = "run-history.csv";
+  private static final String HEADER_PREFIX = "runId,";
+
+  private final String simulationName;
+  private final String profile;
+  private final String gitCommit;
+  private final Path historyFile;
+  private final InjectorHealth injectorHealth;
+  private final Map<String, LatencyStats> requests = new ConcurrentHashMap<>();
+
+  private volatile long runStartMs;
+
+  RunHistory(PerfConfig config, String simulationName, long runStartMs, InjectorHealth injectorHealth) {
+    this.simulationName = simulationName;
+    this.profile = config.profile().name().toLowerCase(Locale.ROOT);
+    this.gitCommit = config.gitCommit().replace(",", "");
+    this.runStartMs = runStartMs;
+    this.historyFile = ResultFiles.sharedFile(config.resultsDir(), FILE_NAME);
+    this.injectorHealth = injectorHealth;
+  }
+
+  @Override
+  public void onResponse(ResponseSample sample) {
+    requests.computeIfAbsent(sample.requestName(), name -> new LatencyStats())
+        .record(sample.latencyMs(), sample.ok());
+  }
+
+  @Override
+  public void onMeasurementStart(long firstUserId, long startMs) {
+    this.runStartMs = startMs;
+  }
+
+  @Override
+  public void onRunEnd() {
+    if (requests.isEmpty()) {
+      return;
+    }
+
+    long durationMs = Math.max(1, System.currentTimeMillis() - runStartMs);
+    String runId = simulationName.toLowerCase(Locale.ROOT) + "-" + runStartMs;
+    boolean saturated = injectorHealth.saturated();
+    List<RunHistoryEntry> entries = new ArrayList<>();
+    new TreeMap<>(requests).forEach((name, stats) -> entries.add(new RunHistoryEntry(
+        runId,
+        simulationName,
+        profile,
+        gitCommit,
+        runStartMs,
+        durationMs,
+        name,
+        stats.total(),
+        stats.failed(),
+        stats.total() * 1_000.0 / durationMs,
+        stats.percentileMs(50.0),
+        stats.percentileMs(95.0),
+        stats.percentileMs(99.0),
+        stats.maxMs(),
+        stats.snapshot(),
+        saturated)));
+    append(historyFile, entries);
+    System.out.println("Run history: " + runId + " (" + gitCommit + ")" + (saturated ? " [injector saturated]" : "")
+        + " appended to " + historyFile.toAbsolutePath());
+  }
+
+  static void append(Path historyFile, List<RunHistoryEntry> entries) {
+    if (!Files.exists(historyFile)) {
+      ResultFiles.appendLine(historyFile, RunHistoryEntry.HEADER);
+    }
+    entries.forEach(entry -> ResultFiles.appendLine(historyFile, entry.toCsv()));
+  }
+
+  static List<RunHistoryEntry> load(Path resultsDir) {
+    Path file = resultsDir.resolve(FILE_NAME);
+    if (!Files.exists(file)) {
+      return List.of();
+    }
+
+    try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+      // Older files keep their original header line, so any header version is skipped.
+      return lines.filter(line -> !line.isBlank() && !line.startsWith(HEADER_PREFIX))
+          .map(RunHistoryEntry::parse)
+          .toList();
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to read run history " + file, exception);
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.example.fintech.perf.metrics;
+
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+
+record RunHistoryEntry(
+    String runId,
+    String simulation,
+    String profile,
+    String gitCommit,
+    long startedAtMs,
+    long durationMs,
+    String request,
+    long count,
+    long failed,
+    double requestsPerSec,
+    long p50Ms,
+    long p95Ms,
+    long p99Ms,
+    long maxMs,
+    Histogram histogram,
+    boolean injectorSaturated
+) {
+
+  static final String HEADER =
+      "runId,simulation,profile,gitCommit,startedAtMs,durationMs,request,count,failed,rps,p50Ms,p95Ms,p99Ms,maxMs,histogram,injectorSaturated";
+  private static final String SEPARATOR = ",";
+  private static final int COLUMNS = 16;
+  // Rows written before injector health was tracked have no saturation column.
+  private static final int LEGACY_COLUMNS = 15;
+
+  double errorRatePercent() {
+    return count == 0 ? 0.0 : failed * 100.0 / count;
+  }
+
+  long percentileMs(double percentile) {
+    return histogram.getValueAtPercentile(percentile);
+  }
+
+  String toCsv() {
+    return String.join(SEPARATOR,
+        runId,
+        simulation,
+        profile,
+        gitCommit,
+        Long.toString(startedAtMs),
+        Long.toString(durationMs),
+        request,
+        Long.toString(count),
+        Long.toString(failed),
+        ResultFiles.number(requestsPerSec),
+        Long.toString(p50Ms),
+        Long.toString(p95Ms),
+        Long.toString(p99Ms),
+        Long.toString(maxMs),
+        encode(histogram),
+        Boolean.toString(injectorSaturated));
+  }
+
+  static RunHistoryEntry parse(String line) {
+    String[] columns = line.split(SEPARATOR, -1);
+    if (columns.length != COLUMNS && columns.length != LEGACY_COLUMNS) {
+      throw new IllegalStateException("Malformed run history line: " + line);
+    }
+    try {
+      return new RunHistoryEntry(
+          columns[0],
+          columns[1],
+          columns[2],
+          columns[3],
+          Long.parseLong(columns[4]),
+          Long.parseLong(columns[5]),
+          columns[6],
+          Long.parseLong(columns[7]),
+          Long.parseLong(columns[8]),
+          Double.parseDouble(columns[9]),
+          Long.parseLong(columns[10]),
+          Long.parseLong(columns[11]),
+          Long.parseLong(columns[12]),
+          Long.parseLong(columns[13]),
+          decode(columns[14]),
+          columns.length == COLUMNS && Boolean.parseBoolean(columns[15]));
+    } catch (NumberFormatException | DataFormatException exception) {
+      throw new IllegalStateException("Malformed run history line: " + line, exception);
+    }
+  }
+
+  private static String encode(Histogram histogram) {
+    ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+    int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+    return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+  }
+
+  private static Histogram decode(String encoded) throws DataFormatException {
+    return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(Base64.getDecoder().decode(encoded)), 0);
+  }
+}
@@ -0,0 +1,93 @@
+package com.example.fintech.perf.metrics;
+
+import com.example.fintech.perf.config.InjectionPhase;
+import com.example.fintech.perf.config.PerfConfig;
+import com.example.fintech.perf.config.PerfProfile;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class RunMetrics {
+
+  private static final List<ResponseListener> LISTENERS = new CopyOnWriteArrayList<>();
+  private static final AtomicBoolean MEASURING = new AtomicBoolean();
+
+  private RunMetrics() {
+    // utility class
+  }
+
+  public static void start(PerfConfig config, String simulationName, List<InjectionPhase> phases) {
+    LISTENERS.clear();
+    MEASURING.set(false);
+    RunControl.reset();
+
+    long runStartMs = System.currentTimeMillis();
+    InjectionSchedule schedule = phases.isEmpty() ? null : new InjectionSchedule(phases);
+    InjectorHealth injectorHealth = new InjectorHealth(config, simulationName, schedule, runStartMs);
+    register(new LatencyHistograms(
+        simulationName, config.resultsDir(), schedule, runStartMs, config.coordinatedOmissionCorrection()));
+    register(injectorHealth);
+    register(new RunHistory(config, simulationName, runStartMs, injectorHealth));
+    if (config.liveMetrics().enabled()) {
+      register(new LiveMetrics(config.liveMetrics(), simulationName, config.resultsDir(), runStartMs));
+    }
+    if (config.resourceSampling().enabled()) {
+      register(new ResourceSampler(
+          config.resourceSampling(), config.apiBaseUrl(), simulationName, config.resultsDir(), runStartMs));
+    }
+    if (config.profile() == PerfProfile.CAPACITY) {
+      register(new CapacitySearch(config, simulationName, runStartMs));
+    }
+    if (config.profile() == PerfProfile.SOAK) {
+      register(new SoakTrend(config.soak(), simulationName, config.resultsDir(), runStartMs));
+    }
+    if (config.profile() == PerfProfile.SPIKE) {
+      register(new SpikeRecovery(config.spike(), simulationName, config.resultsDir(), runStartMs));
+    }
+    if (config.scalability().sweeping()) {
+      register(new ScalabilityRecorder(config, simulationName, runStartMs));
+    }
+    // Sampling lists every descriptor and the whole TCP table each second, too costly to leave on outside a matrix.
+    if (config.connection().matrixing()) {
+      register(new ConnectionSampler(config, simulationName, runStartMs));
+    }
+    // Capacity searches and scalability sweeps overload the backend on purpose and end themselves.
+    if (config.failFast().enabled() && config.profile() != PerfProfile.CAPACITY && !config.scalability().sweeping()) {
+      register(new FailFastMonitor(config.failFast(), runStartMs));
+    }
+  }
+
+  public static void register(ResponseListener listener) {
+    LISTENERS.add(listener);
+  }
+
+  public static void startMeasurement(long firstUserId) {
+    if (!MEASURING.compareAndSet(false, true)) {
+      return;
+    }
+    long startMs = System.currentTimeMillis();
+    for (ResponseListener listener : LISTENERS) {
+      listener.onMeasurementStart(firstUserId, startMs);
+    }
+  }
+
+  public static void record(ResponseSample sample) {
+    for (ResponseListener listener : LISTENERS) {
+      if (!sample.warmup() || listener.acceptsWarmup()) {
+        listener.onResponse(sample);
+      }
+    }
+  }
+
+  public static void finish() {
+    for (ResponseListener listener : LISTENERS) {
+      try {
+        listener.onRunEnd();
+      } catch (RuntimeException exception) {
+        System.err.println("Unable to finish " + listener.getClass().getSimpleName() + ": " + exception.getMessage());
+      }
+    }
+    LISTENERS.clear();
+  }
+}
@@ -0,0 +1,66 @@
+package com.example.fintech.perf.metrics;
+
+record ScalabilityPoint(
+    String sweepId,
+    String simulation,
+    String profile,
+    String gitCommit,
+    int scale,
+    long startedAtMs,
+    long durationMs,
+    long count,
+    long failed,
+    double throughput,
+    long p95Ms,
+    long p99Ms
+) {
+
+  static final String HEADER =
+      "sweepId,simulation,profile,gitCommit,scale,startedAtMs,durationMs,count,failed,okPerSec,p95Ms,p99Ms";
+  private static final String SEPARATOR = ",";
+  private static final int COLUMNS = 12;
+
+  double errorRatePercent() {
+    return count == 0 ? 0.0 : failed * 100.0 / count;
+  }
+
+  String toCsv() {
+    return String.join(SEPARATOR,
+        sweepId,
+        simulation,
+        profile,
+        gitCommit,
+        Integer.toString(scale),
+        Long.toString(startedAtMs),
+        Long.toString(durationMs),
+        Long.toString(count),
+        Long.toString(failed),
+        ResultFiles.number(throughput),
+        Long.toString(p95Ms),
+        Long.toString(p99Ms));
+  }
+
+  static ScalabilityPoint parse(String line) {
+    String[] columns = line.split(SEPARATOR, -1);
+    if (columns.length != COLUMNS) {
+      throw new IllegalStateException("Malformed scalability point: " + line);
+    }
+    try {
+      return new ScalabilityPoint(
+          columns[0],
+          columns[1],
+          columns[2],
+          columns[3],
+          Integer.parseInt(columns[4]),
+          Long.parseLong(columns[5]),
+          Long.parseLong(columns[6]),
+          Long.parseLong(columns[7]),
+          Long.parseLong(columns[8]),
+          Double.parseDouble(columns[9]),
+          Long.parseLong(columns[10]),
+          Long.parseLong(columns[11]));
+    } catch (NumberFormatException exception) {
+      throw new IllegalStateException("Malformed scalability point: " + line, exception);
+    }
+  }
+}
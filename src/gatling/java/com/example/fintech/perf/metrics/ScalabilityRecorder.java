@@ -0,0 +1,70 @@
+package com.example.fintech.perf.metrics;
+
+import com.example.fintech.perf.config.PerfConfig;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+final class ScalabilityRecorder implements ResponseListener {
+
+  static final String FILE_NAME = "scalability-points.csv";
+
+  private final String sweepId;
+  private final String simulationName;
+  private final String profile;
+  private final String gitCommit;
+  private final int scale;
+  private final Path pointsFile;
+  private final LatencyStats stats = new LatencyStats();
+
+  private volatile long measureStartMs;
+
+  ScalabilityRecorder(PerfConfig config, String simulationName, long runStartMs) {
+    this.sweepId = config.scalability().sweepId();
+    this.simulationName = simulationName;
+    this.profile = config.profile().name().toLowerCase(Locale.ROOT);
+    this.gitCommit = config.gitCommit().replace(",", "");
+    this.scale = config.loadScale();
+    this.pointsFile = ResultFiles.sharedFile(config.resultsDir(), FILE_NAME);
+    this.measureStartMs = runStartMs;
+  }
+
+  @Override
+  public void onMeasurementStart(long firstUserId, long startMs) {
+    this.measureStartMs = startMs;
+  }
+
+  @Override
+  public void onResponse(ResponseSample sample) {
+    stats.record(sample.latencyMs(), sample.ok());
+  }
+
+  @Override
+  public void onRunEnd() {
+    if (stats.total() == 0) {
+      return;
+    }
+
+    long durationMs = Math.max(1, System.currentTimeMillis() - measureStartMs);
+    ScalabilityPoint point = new ScalabilityPoint(
+        sweepId,
+        simulationName,
+        profile,
+        gitCommit,
+        scale,
+        measureStartMs,
+        durationMs,
+        stats.total(),
+        stats.failed(),
+        (stats.total() - stats.failed()) * 1_000.0 / durationMs,
+        stats.percentileMs(95.0),
+        stats.percentileMs(99.0));
+    if (!Files.exists(pointsFile)) {
+      ResultFiles.appendLine(pointsFile, ScalabilityPoint.HEADER);
+    }
+    ResultFiles.appendLine(pointsFile, point.toCsv());
+    System.out.printf("Scalability point: sweep %s scale %d, %s ok/s, p95 %dms, p99 %dms%n",
+        sweepId, scale, ResultFiles.number(point.throughput()), point.p95Ms(), point.p99Ms());
+  }
+}
@@ -0,0 +1,164 @@
+package com.example.fintech.perf.metrics;
+
+import com.example.fintech.perf.config.PerfConfig;
+import com.example.fintech.perf.config.ScalabilitySettings;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public final class ScalabilityReport {
+
+  private static final String FITS_FILE = "scalability-fits.jsonl";
+  private static final String CURVE_HEADER = "scale,okPerSec,p95Ms,p99Ms,errorRatePercent,uslOkPerSec";
+  private static final int MIN_POINTS = 3;
+  // How far past the largest measured scale the predicted curve is drawn.
+  private static final double CURVE_EXTENSION = 2.0;
+
+  private final ScalabilitySettings settings;
+  private final Path resultsDir;
+
+  private ScalabilityReport(PerfConfig config) {
+    this.settings = config.scalability();
+    this.resultsDir = config.resultsDir();
+  }
+
+  public static void main(String[] args) {
+    if (!new ScalabilityReport(PerfConfig.load()).report()) {
+      System.exit(1);
+    }
+  }
+
+  private boolean report() {
+    List<ScalabilityPoint> stored = load(resultsDir.resolve(ScalabilityRecorder.FILE_NAME));
+    if (stored.isEmpty()) {
+      System.out.println("No scalability points in " + resultsDir.resolve(ScalabilityRecorder.FILE_NAME));
+      return false;
+    }
+    String sweepId = settings.sweeping() ? settings.sweepId() : stored.get(stored.size() - 1).sweepId();
+    List<ScalabilityPoint> points = perScale(stored.stream()
+        .filter(point -> point.sweepId().equals(sweepId))
+        .toList());
+    if (points.size() < MIN_POINTS) {
+      System.out.println("Sweep " + sweepId + " has " + points.size() + " scale factor(s); the fit needs at least "
+          + MIN_POINTS);
+      return false;
+    }
+
+    ScalabilityPoint first = points.get(0);
+    UslFit fit = UslFit.fit(points);
+    printTable(sweepId, points, fit);
+    Path curveFile = writeCurve(first.simulation(), points, fit);
+    ResultFiles.appendLine(ResultFiles.sharedFile(resultsDir, FITS_FILE), "{\"sweepId\":\"" + sweepId + "\""
+        + ",\"timestamp\":\"" + Instant.now() + "\""
+        + ",\"simulation\":\"" + first.simulation() + "\""
+        + ",\"profile\":\"" + first.profile() + "\""
+        + ",\"gitCommit\":\"" + first.gitCommit() + "\""
+        + ",\"scales\":" + points.stream().map(point -> Integer.toString(point.scale())).toList()
+        + ",\"lambda\":" + ResultFiles.number(fit.lambda())
+        + ",\"sigma\":" + String.format(Locale.ROOT, "%.6f", fit.sigma())
+        + ",\"kappa\":" + String.format(Locale.ROOT, "%.6f", fit.kappa())
+        + ",\"peakScale\":" + (fit.hasPeak() ? ResultFiles.number(fit.peakScale()) : "null")
+        + ",\"peakOkPerSec\":"
+        + (Double.isFinite(fit.peakThroughput()) ? ResultFiles.number(fit.peakThroughput()) : "null")
+        + ",\"rSquared\":" + String.format(Locale.ROOT, "%.4f", fit.rSquared(points))
+        + "}");
+    System.out.println("Scalability curve: " + curveFile.toAbsolutePath());
+    System.out.println("Scalability fits: " + resultsDir.resolve(FITS_FILE).toAbsolutePath());
+    return true;
+  }
+
+  private static void printTable(String sweepId, List<ScalabilityPoint> points, UslFit fit) {
+    ScalabilityPoint first = points.get(0);
+    System.out.println();
+    System.out.printf("Scalability sweep %s (%s, %s profile, %s)%n",
+        sweepId, first.simulation(), first.profile(), first.gitCommit());
+    System.out.printf("%6s %12s %11s %8s %8s %8s %12s%n",
+        "scale", "ok/s", "efficiency", "p95", "p99", "errors", "usl ok/s");
+    for (ScalabilityPoint point : points) {
+      System.out.printf("%6d %12s %10s%% %6dms %6dms %7s%% %12s%n",
+          point.scale(),
+          ResultFiles.number(point.throughput()),
+          ResultFiles.number(point.throughput() * 100.0 / (fit.lambda() * point.scale())),
+          point.p95Ms(),
+          point.p99Ms(),
+          ResultFiles.number(point.errorRatePercent()),
+          ResultFiles.number(fit.throughputAt(point.scale())));
+    }
+    System.out.printf("USL fit: lambda %s ok/s per scale unit, contention sigma %.4f, coherency kappa %.6f, R^2 %.3f%n",
+        ResultFiles.number(fit.lambda()), fit.sigma(), fit.kappa(), fit.rSquared(points));
+    if (fit.hasPeak()) {
+      System.out.printf("Predicted peak: %s ok/s at scale %s; beyond it throughput falls%n",
+          ResultFiles.number(fit.peakThroughput()), ResultFiles.number(fit.peakScale()));
+    } else if (Double.isFinite(fit.peakThroughput())) {
+      System.out.printf("No retrograde scaling measured; throughput levels off towards %s ok/s%n",
+          ResultFiles.number(fit.peakThroughput()));
+    } else {
+      System.out.println("Throughput still scales linearly; extend the sweep to find the knee");
+    }
+  }
+
+  private Path writeCurve(String simulationName, List<ScalabilityPoint> points, UslFit fit) {
+    int largest = points.get(points.size() - 1).scale();
+    double upper = largest * CURVE_EXTENSION;
+    if (fit.hasPeak()) {
+      // Show the fall after the peak too, but not out to an absurd scale when the peak is far away.
+      upper = Math.max(upper, Math.min(fit.peakScale() * 1.5, largest * 10.0));
+    }
+    TreeSet<Double> scales = new TreeSet<>();
+    for (int step = 0; step < settings.curvePoints(); step++) {
+      scales.add(1 + (upper - 1) * step / Math.max(1, settings.curvePoints() - 1));
+    }
+    Map<Double, ScalabilityPoint> measured = new HashMap<>();
+    points.forEach(point -> {
+      measured.put((double) point.scale(), point);
+      scales.add((double) point.scale());
+    });
+
+    Path curveFile = ResultFiles.newFile(resultsDir, simulationName, "scalability", "csv");
+    ResultFiles.appendLine(curveFile, CURVE_HEADER);
+    for (double scale : scales) {
+      ScalabilityPoint point = measured.get(scale);
+      ResultFiles.appendLine(curveFile, String.join(",",
+          ResultFiles.number(scale),
+          point == null ? "" : ResultFiles.number(point.throughput()),
+          point == null ? "" : Long.toString(point.p95Ms()),
+          point == null ? "" : Long.toString(point.p99Ms()),
+          point == null ? "" : ResultFiles.number(point.errorRatePercent()),
+          ResultFiles.number(fit.throughputAt(scale))));
+    }
+    return curveFile;
+  }
+
+  // A rerun of one scale factor within a sweep replaces the earlier point.
+  private static List<ScalabilityPoint> perScale(List<ScalabilityPoint> points) {
+    return List.copyOf(points.stream()
+        .collect(Collectors.toMap(ScalabilityPoint::scale, point -> point, (earlier, later) -> later, TreeMap::new))
+        .values());
+  }
+
+  private static List<ScalabilityPoint> load(Path file) {
+    if (!Files.exists(file)) {
+      return List.of();
+    }
+
+    try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+      return lines.filter(line -> !line.isBlank() && !ScalabilityPoint.HEADER.equals(line))
+          .map(ScalabilityPoint::parse)
+          .toList();
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to read scalability points " + file, exception);
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.example.fintech.perf.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+final class Significance {
+
+  private Significance() {
+    // utility class
+  }
+
+  // One-sided Mann-Whitney U test on bucketed latencies: small values mean current is slower than baseline.
+  static double slowerPValue(Histogram baseline, Histogram current) {
+    double baselineCount = baseline.getTotalCount();
+    double currentCount = current.getTotalCount();
+    if (baselineCount == 0 || currentCount == 0) {
+      return 1.0;
+    }
+
+    Map<Long, long[]> buckets = new TreeMap<>();
+    addCounts(buckets, baseline, 0);
+    addCounts(buckets, current, 1);
+
+    double ranked = 0;
+    double currentRankSum = 0;
+    double ties = 0;
+    for (long[] counts : buckets.values()) {
+      double tied = counts[0] + counts[1];
+      currentRankSum += counts[1] * (ranked + (tied + 1) / 2.0);
+      ties += tied * tied * tied - tied;
+      ranked += tied;
+    }
+
+    double total = baselineCount + currentCount;
+    double u = currentRankSum - currentCount * (currentCount + 1) / 2.0;
+    double mean = baselineCount * currentCount / 2.0;
+    double variance = baselineCount * currentCount / 12.0 * ((total + 1) - ties / (total * (total - 1)));
+    if (variance <= 0) {
+      return 1.0;
+    }
+    return upperTail((u - mean - 0.5) / Math.sqrt(variance));
+  }
+
+  // One-sided pooled two-proportion z-test: small values mean current fails more often than baseline.
+  static double moreFailuresPValue(long baselineFailed, long baselineTotal, long currentFailed, long currentTotal) {
+    if (baselineTotal == 0 || currentTotal == 0) {
+      return 1.0;
+    }
+
+    double pooled = (double) (baselineFailed + currentFailed) / (baselineTotal + currentTotal);
+    double standardError = Math.sqrt(pooled * (1 - pooled) * (1.0 / baselineTotal + 1.0 / currentTotal));
+    if (standardError == 0) {
+      return 1.0;
+    }
+    double difference = (double) currentFailed / currentTotal - (double) baselineFailed / baselineTotal;
+    return upperTail(difference / standardError);
+  }
+
+  private static void addCounts(Map<Long, long[]> buckets, Histogram histogram, int column) {
+    for (HistogramIterationValue value : histogram.recordedValues()) {
+      buckets.computeIfAbsent(value.getValueIteratedTo(), bucket -> new long[2])[column]
+          += value.getCountAtValueIteratedTo();
+    }
+  }
+
+  private static double upperTail(double z) {
+    return 0.5 * erfc(z / Math.sqrt(2.0));
+  }
+
+  // Chebyshev approximation of the complementary error function, fractional error below 1.2e-7.
+  private static double erfc(double x) {
+    double z = Math.abs(x);
+    double t = 1.0 / (1.0 + 0.5 * z);
+    double result = t * Math.exp(-z * z - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+        + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+        + t * (-0.82215223 + t * 0.17087277)))))))));
+    return x >= 0 ? result : 2.0 - result;
+  }
+}
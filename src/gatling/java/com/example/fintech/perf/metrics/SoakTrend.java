@@ -0,0 +1,170 @@
+package com.example.fintech.perf.metrics;
+
+import com.example.fintech.perf.config.SoakSettings;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+final class SoakTrend implements ResponseListener {
+
+  private static final double MS_PER_HOUR = 3_600_000.0;
+  private static final int MIN_WINDOWS = 3;
+
+  private final SoakSettings settings;
+  private final String simulationName;
+  private final Path resultFile;
+  private final Map<String, RequestTrend> requests = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService flusher;
+
+  private volatile long measureStartMs;
+  private long windowStartMs;
+  private boolean breached;
+
+  SoakTrend(SoakSettings settings, String simulationName, Path resultsDir, long runStartMs) {
+    this.settings = settings;
+    this.simulationName = simulationName;
+    this.resultFile = ResultFiles.newFile(resultsDir, simulationName, "soak", "jsonl");
+    this.measureStartMs = runStartMs;
+    this.windowStartMs = runStartMs;
+    this.flusher = MetricThreads.scheduler("soak-trend");
+    flusher.scheduleAtFixedRate(this::closeWindowSafely, settings.windowMs(), settings.windowMs(), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public synchronized void onMeasurementStart(long firstUserId, long startMs) {
+    this.measureStartMs = startMs;
+    this.windowStartMs = startMs;
+  }
+
+  @Override
+  public void onResponse(ResponseSample sample) {
+    requests.computeIfAbsent(sample.requestName(), name -> new RequestTrend()).record(sample);
+  }
+
+  @Override
+  public void onRunEnd() {
+    flusher.shutdownNow();
+    synchronized (this) {
+      // A trailing partial window would skew the throughput fit, so only full windows count.
+      new TreeMap<>(requests).forEach((name, trend) -> {
+        ResultFiles.appendLine(resultFile, "{\"type\":\"trend\""
+            + ",\"request\":\"" + name + "\""
+            + ",\"windows\":" + trend.throughput.points()
+            + ",\"p95DriftPercentPerHour\":" + ResultFiles.number(trend.p95.percentPerUnit())
+            + ",\"p99DriftPercentPerHour\":" + ResultFiles.number(trend.p99.percentPerUnit())
+            + ",\"throughputChangePercentPerHour\":" + ResultFiles.number(trend.throughput.percentPerUnit())
+            + ",\"breached\":" + (breachOf(name, trend) != null)
+            + "}");
+      });
+    }
+    printSummary();
+  }
+
+  private void closeWindowSafely() {
+    try {
+      closeWindow(System.currentTimeMillis());
+    } catch (RuntimeException exception) {
+      System.err.println("Unable to update soak trend: " + exception.getMessage());
+    }
+  }
+
+  private synchronized void closeWindow(long nowMs) {
+    double windowSeconds = Math.max(1, nowMs - windowStartMs) / 1_000.0;
+    double hour = ((windowStartMs + nowMs) / 2.0 - measureStartMs) / MS_PER_HOUR;
+    new TreeMap<>(requests).forEach((name, trend) -> {
+      Histogram interval = trend.drain();
+      long ok = trend.ok.sumThenReset();
+      double throughput = ok / windowSeconds;
+      trend.throughput.add(hour, throughput);
+      if (interval.getTotalCount() > 0) {
+        trend.p95.add(hour, interval.getValueAtPercentile(95.0));
+        trend.p99.add(hour, interval.getValueAtPercentile(99.0));
+      }
+      ResultFiles.appendLine(resultFile, "{\"type\":\"window\""
+          + ",\"request\":\"" + name + "\""
+          + ",\"hour\":" + String.format(Locale.ROOT, "%.4f", hour)
+          + ",\"count\":" + interval.getTotalCount()
+          + ",\"okPerSec\":" + ResultFiles.number(throughput)
+          + ",\"p95Ms\":" + interval.getValueAtPercentile(95.0)
+          + ",\"p99Ms\":" + interval.getValueAtPercentile(99.0)
+          + "}");
+    });
+    windowStartMs = nowMs;
+
+    if (!breached && nowMs - measureStartMs >= settings.evaluateAfterMs()) {
+      evaluate();
+    }
+  }
+
+  private void evaluate() {
+    for (Map.Entry<String, RequestTrend> entry : new TreeMap<>(requests).entrySet()) {
+      String breach = breachOf(entry.getKey(), entry.getValue());
+      if (breach != null) {
+        breached = true;
+        RunControl.requestAbort("soak trend breached: " + breach);
+        return;
+      }
+    }
+  }
+
+  private String breachOf(String name, RequestTrend trend) {
+    if (trend.throughput.points() < MIN_WINDOWS) {
+      return null;
+    }
+    double p95Drift = trend.p95.percentPerUnit();
+    double p99Drift = trend.p99.percentPerUnit();
+    double throughputDecay = -trend.throughput.percentPerUnit();
+    if (Math.max(p95Drift, p99Drift) > settings.maxLatencyDriftPercentPerHour()) {
+      return String.format(Locale.ROOT, "%s latency drifts p95 %+.2f%%/h p99 %+.2f%%/h (limit %.2f%%/h)",
+          name, p95Drift, p99Drift, settings.maxLatencyDriftPercentPerHour());
+    }
+    if (throughputDecay > settings.maxThroughputDecayPercentPerHour()) {
+      return String.format(Locale.ROOT, "%s throughput decays %.2f%%/h (limit %.2f%%/h)",
+          name, throughputDecay, settings.maxThroughputDecayPercentPerHour());
+    }
+    return null;
+  }
+
+  private void printSummary() {
+    System.out.println();
+    System.out.printf("Soak trends (%s, %%/hour over %ss windows)%n", simulationName, settings.windowSeconds());
+    System.out.printf("%-32s %8s %12s %12s %14s%n", "request", "windows", "p95 drift", "p99 drift", "throughput");
+    new TreeMap<>(requests).forEach((name, trend) -> System.out.printf("%-32s %8d %12s %12s %14s%n",
+        name,
+        trend.throughput.points(),
+        ResultFiles.number(trend.p95.percentPerUnit()),
+        ResultFiles.number(trend.p99.percentPerUnit()),
+        ResultFiles.number(trend.throughput.percentPerUnit())));
+    System.out.println("Soak windows and trends: " + resultFile.toAbsolutePath());
+  }
+
+  private static final class RequestTrend {
+
+    private final Recorder latency = new Recorder(LatencyStats.HIGHEST_TRACKABLE_LATENCY_MS, LatencyStats.SIGNIFICANT_DIGITS);
+    private final LongAdder ok = new LongAdder();
+    private final LinearTrend p95 = new LinearTrend();
+    private final LinearTrend p99 = new LinearTrend();
+    private final LinearTrend throughput = new LinearTrend();
+    private Histogram recycled;
+
+    void record(ResponseSample sample) {
+      latency.recordValue(LatencyStats.clamp(sample.latencyMs()));
+      if (sample.ok()) {
+        ok.increment();
+      }
+    }
+
+    Histogram drain() {
+      recycled = latency.getIntervalHistogram(recycled);
+      return recycled;
+    }
+  }
+}
@@ -0,0 +1,272 @@
+package com.example.fintech.perf.metrics;
+
+import com.example.fintech.perf.config.SpikeSettings;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+final class SpikeRecovery implements ResponseListener {
+
+  // Windows with fewer responses than this say nothing about p95 and neither confirm nor break a recovery.
+  private static final int MIN_WINDOW_SAMPLES = 5;
+
+  private final SpikeSettings settings;
+  private final String simulationName;
+  private final Path resultFile;
+  private final Map<String, RequestSpike> requests = new LinkedHashMap<>();
+  private final ScheduledExecutorService checker;
+  private final AtomicLong latestDoneOffsetMs = new AtomicLong();
+
+  private volatile long measureStartMs;
+  private boolean evaluated;
+
+  SpikeRecovery(SpikeSettings settings, String simulationName, Path resultsDir, long runStartMs) {
+    this.settings = settings;
+    this.simulationName = simulationName;
+    this.resultFile = ResultFiles.newFile(resultsDir, simulationName, "spike", "jsonl");
+    this.measureStartMs = runStartMs;
+    settings.requests().forEach(name -> requests.put(name, new RequestSpike(settings)));
+    this.checker = MetricThreads.scheduler("spike-recovery");
+    checker.scheduleAtFixedRate(this::checkSafely, settings.windowMs(), settings.windowMs(), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void onMeasurementStart(long firstUserId, long startMs) {
+    this.measureStartMs = startMs;
+  }
+
+  @Override
+  public void onResponse(ResponseSample sample) {
+    RequestSpike spike = requests.get(sample.requestName());
+    if (spike == null) {
+      return;
+    }
+    long sentOffsetMs = sample.sentAtMs() - measureStartMs;
+    long doneOffsetMs = sentOffsetMs + sample.latencyMs();
+    spike.record(sentOffsetMs, doneOffsetMs, LatencyStats.clamp(sample.latencyMs()), sample.ok());
+    latestDoneOffsetMs.accumulateAndGet(doneOffsetMs, Math::max);
+  }
+
+  @Override
+  public void onRunEnd() {
+    checker.shutdownNow();
+    System.out.println();
+    System.out.printf("Spike recovery (%s, %sx burst for %ss after %ss at base rate)%n",
+        simulationName, ResultFiles.number(settings.multiplier()), settings.burstSeconds(), settings.baselineSeconds());
+    long lastDoneOffsetMs = latestDoneOffsetMs.get();
+    if (lastDoneOffsetMs < settings.burstEndMs()) {
+      System.out.println("  run ended before the burst did; nothing to report");
+      return;
+    }
+
+    int lastWindow = (int) ((lastDoneOffsetMs - settings.burstEndMs()) / settings.windowMs());
+    requests.forEach((name, spike) -> {
+      if (spike.baseline.getTotalCount() == 0) {
+        System.out.printf("  %-28s no responses before the burst%n", name);
+        return;
+      }
+      writeRows(name, spike, lastWindow);
+      printSummary(name, spike, lastWindow);
+    });
+    System.out.println("Spike windows and recovery: " + resultFile.toAbsolutePath());
+  }
+
+  private void checkSafely() {
+    try {
+      check(System.currentTimeMillis());
+    } catch (RuntimeException exception) {
+      System.err.println("Unable to check spike recovery: " + exception.getMessage());
+    }
+  }
+
+  // Judged once, a window after the recovery deadline so responses still in flight at the deadline are counted.
+  private synchronized void check(long nowMs) {
+    long elapsedMs = nowMs - measureStartMs;
+    if (evaluated || elapsedMs < settings.burstEndMs() + settings.maxRecoveryMs() + settings.windowMs()) {
+      return;
+    }
+    evaluated = true;
+    int lastWindow = (int) ((elapsedMs - settings.burstEndMs()) / settings.windowMs()) - 2;
+    for (Map.Entry<String, RequestSpike> entry : requests.entrySet()) {
+      RequestSpike spike = entry.getValue();
+      if (spike.baseline.getTotalCount() == 0) {
+        continue;
+      }
+      long recoveryMs = spike.recoveryMs(lastWindow);
+      if (recoveryMs < 0 || recoveryMs > settings.maxRecoveryMs()) {
+        RunControl.requestAbort("spike recovery exceeded: " + entry.getKey() + " p95 not back within "
+            + settings.recoveredP95Ms(spike.baselineP95()) + "ms " + settings.maxRecoverySeconds()
+            + "s after the burst (pre-spike p95 " + spike.baselineP95() + "ms)");
+        return;
+      }
+    }
+  }
+
+  private void writeRows(String name, RequestSpike spike, int lastWindow) {
+    long limitMs = settings.recoveredP95Ms(spike.baselineP95());
+    ResultFiles.appendLine(resultFile, phaseRow(name, "baseline", spike.baseline, spike.baselineDone.sum(),
+        settings.baselineSeconds()));
+    ResultFiles.appendLine(resultFile, phaseRow(name, "burst", spike.burst, spike.burstDone.sum(),
+        settings.burstSeconds()));
+    for (int window = 0; window <= lastWindow; window++) {
+      Histogram histogram = spike.window(window);
+      if (histogram == null) {
+        continue;
+      }
+      long p95 = histogram.getValueAtPercentile(95.0);
+      ResultFiles.appendLine(resultFile, "{\"type\":\"window\""
+          + ",\"request\":\"" + name + "\""
+          + ",\"secondsAfterBurst\":" + window * settings.windowSeconds()
+          + ",\"count\":" + histogram.getTotalCount()
+          + ",\"p95Ms\":" + p95
+          + ",\"recovered\":" + (histogram.getTotalCount() >= MIN_WINDOW_SAMPLES && p95 <= limitMs)
+          + "}");
+    }
+    long recoveryMs = spike.recoveryMs(lastWindow);
+    ResultFiles.appendLine(resultFile, "{\"type\":\"recovery\""
+        + ",\"request\":\"" + name + "\""
+        + ",\"baselineP95Ms\":" + spike.baselineP95()
+        + ",\"recoveredP95Ms\":" + limitMs
+        + ",\"burstPeakMs\":" + spike.burst.getMaxValue()
+        + ",\"achievedRatePercent\":" + nullable(spike.achievedRatePercent())
+        + ",\"backlog\":" + nullable(spike.backlog())
+        + ",\"recoverySeconds\":" + (recoveryMs < 0 ? "null" : ResultFiles.number(recoveryMs / 1_000.0))
+        + ",\"maxRecoverySeconds\":" + settings.maxRecoverySeconds()
+        + ",\"passed\":" + (recoveryMs >= 0 && recoveryMs <= settings.maxRecoveryMs())
+        + "}");
+  }
+
+  private static String phaseRow(String name, String phase, Histogram histogram, long completed, int seconds) {
+    return "{\"type\":\"phase\""
+        + ",\"request\":\"" + name + "\""
+        + ",\"phase\":\"" + phase + "\""
+        + ",\"count\":" + histogram.getTotalCount()
+        + ",\"completedPerSec\":" + ResultFiles.number(completed / (double) seconds)
+        + ",\"p95Ms\":" + histogram.getValueAtPercentile(95.0)
+        + ",\"p99Ms\":" + histogram.getValueAtPercentile(99.0)
+        + ",\"maxMs\":" + histogram.getMaxValue()
+        + "}";
+  }
+
+  private void printSummary(String name, RequestSpike spike, int lastWindow) {
+    double achieved = spike.achievedRatePercent();
+    long recoveryMs = spike.recoveryMs(lastWindow);
+    System.out.printf("  %-28s pre-spike p95 %dms; burst p95 %dms p99 %dms max %dms, %s errors%n",
+        name,
+        spike.baselineP95(),
+        spike.burst.getValueAtPercentile(95.0),
+        spike.burst.getValueAtPercentile(99.0),
+        spike.burst.getMaxValue(),
+        spike.burst.getTotalCount() == 0
+            ? "0%"
+            : ResultFiles.number(spike.burstErrors.sum() * 100.0 / spike.burst.getTotalCount()) + "%");
+    System.out.printf("  %-28s burst completions %s of intended%s%n",
+        "",
+        Double.isNaN(achieved) ? "n/a" : ResultFiles.number(achieved) + "%",
+        Double.isNaN(achieved) ? "" : ", ~" + ResultFiles.number(spike.backlog()) + " requests queued by its end");
+    System.out.printf("  %-28s %s%n", "", recoveryMs < 0
+        ? "NOT RECOVERED: p95 never settled within " + settings.recoveredP95Ms(spike.baselineP95()) + "ms"
+        : (recoveryMs <= settings.maxRecoveryMs() ? "recovered" : "RECOVERED TOO SLOWLY") + ": p95 back within "
+            + settings.recoveredP95Ms(spike.baselineP95()) + "ms " + ResultFiles.number(recoveryMs / 1_000.0)
+            + "s after the burst (limit " + settings.maxRecoverySeconds() + "s)");
+  }
+
+  private static String nullable(double value) {
+    return Double.isNaN(value) ? "null" : ResultFiles.number(value);
+  }
+
+  // Latencies are attributed to the phase the request was sent in; completions to the phase they finished in,
+  // so a backend that falls behind during the burst shows up as completions lagging the burst's arrival rate.
+  private static final class RequestSpike {
+
+    private final Histogram baseline = new ConcurrentHistogram(LatencyStats.SIGNIFICANT_DIGITS);
+    private final Histogram burst = new ConcurrentHistogram(LatencyStats.SIGNIFICANT_DIGITS);
+    private final Map<Integer, Histogram> afterBurst = new ConcurrentHashMap<>();
+    private final LongAdder baselineDone = new LongAdder();
+    private final LongAdder burstDone = new LongAdder();
+    private final LongAdder burstErrors = new LongAdder();
+
+    private final SpikeSettings settings;
+
+    RequestSpike(SpikeSettings settings) {
+      this.settings = settings;
+    }
+
+    void record(long sentOffsetMs, long doneOffsetMs, long latencyMs, boolean ok) {
+      if (sentOffsetMs < 0) {
+        return;
+      }
+      if (sentOffsetMs < settings.burstStartMs()) {
+        baseline.recordValue(latencyMs);
+      } else if (sentOffsetMs < settings.burstEndMs()) {
+        burst.recordValue(latencyMs);
+        if (!ok) {
+          burstErrors.increment();
+        }
+      } else {
+        int window = (int) ((sentOffsetMs - settings.burstEndMs()) / settings.windowMs());
+        afterBurst.computeIfAbsent(window, index -> new ConcurrentHistogram(LatencyStats.SIGNIFICANT_DIGITS))
+            .recordValue(latencyMs);
+      }
+      if (doneOffsetMs < settings.burstStartMs()) {
+        baselineDone.increment();
+      } else if (doneOffsetMs < settings.burstEndMs()) {
+        burstDone.increment();
+      }
+    }
+
+    Histogram window(int index) {
+      return afterBurst.get(index);
+    }
+
+    long baselineP95() {
+      return baseline.getValueAtPercentile(95.0);
+    }
+
+    // Offset after the burst from which every window with enough responses stays within tolerance, or -1.
+    long recoveryMs(int lastWindow) {
+      long limitMs = settings.recoveredP95Ms(baselineP95());
+      int recoveredFrom = -1;
+      for (int window = 0; window <= lastWindow; window++) {
+        Histogram histogram = afterBurst.get(window);
+        if (histogram == null || histogram.getTotalCount() < MIN_WINDOW_SAMPLES) {
+          continue;
+        }
+        if (histogram.getValueAtPercentile(95.0) <= limitMs) {
+          recoveredFrom = recoveredFrom < 0 ? window : recoveredFrom;
+        } else {
+          recoveredFrom = -1;
+        }
+      }
+      return recoveredFrom < 0 ? -1 : recoveredFrom * settings.windowMs();
+    }
+
+    // Completions during the burst against the pre-spike completion rate scaled by the burst multiplier.
+    double achievedRatePercent() {
+      double intendedPerSec = intendedPerSec();
+      return Double.isNaN(intendedPerSec)
+          ? Double.NaN
+          : burstDone.sum() / (double) settings.burstSeconds() * 100.0 / intendedPerSec;
+    }
+
+    double backlog() {
+      double intendedPerSec = intendedPerSec();
+      return Double.isNaN(intendedPerSec)
+          ? Double.NaN
+          : Math.max(0.0, intendedPerSec * settings.burstSeconds() - burstDone.sum());
+    }
+
+    private double intendedPerSec() {
+      long done = baselineDone.sum();
+      return done == 0 ? Double.NaN : done / (double) settings.baselineSeconds() * settings.multiplier();
+    }
+  }
+}
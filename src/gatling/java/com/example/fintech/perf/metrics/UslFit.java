@@ -0,0 +1,93 @@
+package com.example.fintech.perf.metrics;
+
+import java.util.List;
+
+// Universal Scalability Law: X(N) = lambda * N / (1 + sigma * (N - 1) + kappa * N * (N - 1)).
+record UslFit(double lambda, double sigma, double kappa) {
+
+  // lambda comes from the smallest load, which must still scale linearly. With x = N - 1 the model becomes
+  // N * lambda / X - 1 = (sigma + kappa) * x + kappa * x^2, a least-squares fit through the origin.
+  static UslFit fit(List<ScalabilityPoint> points) {
+    ScalabilityPoint smallest = points.get(0);
+    double lambda = smallest.throughput() / smallest.scale();
+    double sumXx = 0;
+    double sumXxx = 0;
+    double sumXxxx = 0;
+    double sumXy = 0;
+    double sumXxy = 0;
+    for (ScalabilityPoint point : points) {
+      if (point.throughput() <= 0) {
+        continue;
+      }
+      double x = point.scale() - 1.0;
+      double y = point.scale() * lambda / point.throughput() - 1.0;
+      sumXx += x * x;
+      sumXxx += x * x * x;
+      sumXxxx += x * x * x * x;
+      sumXy += x * y;
+      sumXxy += x * x * y;
+    }
+
+    double determinant = sumXx * sumXxxx - sumXxx * sumXxx;
+    double linear = determinant == 0 ? 0.0 : (sumXy * sumXxxx - sumXxy * sumXxx) / determinant;
+    double kappa = determinant == 0 ? 0.0 : (sumXx * sumXxy - sumXxx * sumXy) / determinant;
+    double sigma = linear - kappa;
+    // Negative coefficients have no physical meaning; refit the other one alone.
+    if (kappa <= 0) {
+      kappa = 0;
+      sigma = sumXx == 0 ? 0.0 : sumXy / sumXx;
+    }
+    if (sigma < 0) {
+      sigma = 0;
+      kappa = coherencyOnly(points, lambda);
+    }
+
+    return new UslFit(lambda, Math.max(0, sigma), Math.max(0, kappa));
+  }
+
+  double throughputAt(double scale) {
+    return lambda * scale / (1 + sigma * (scale - 1) + kappa * scale * (scale - 1));
+  }
+
+  boolean hasPeak() {
+    return kappa > 0 && sigma < 1;
+  }
+
+  // Load at which adding more makes throughput fall; without coherency cost it only flattens out.
+  double peakScale() {
+    return hasPeak() ? Math.sqrt((1 - sigma) / kappa) : Double.POSITIVE_INFINITY;
+  }
+
+  double peakThroughput() {
+    if (hasPeak()) {
+      return throughputAt(peakScale());
+    }
+    return sigma > 0 ? lambda / sigma : Double.POSITIVE_INFINITY;
+  }
+
+  double rSquared(List<ScalabilityPoint> points) {
+    double mean = points.stream().mapToDouble(ScalabilityPoint::throughput).average().orElse(0);
+    double residual = 0;
+    double total = 0;
+    for (ScalabilityPoint point : points) {
+      residual += Math.pow(point.throughput() - throughputAt(point.scale()), 2);
+      total += Math.pow(point.throughput() - mean, 2);
+    }
+    return total == 0 ? 1.0 : 1 - residual / total;
+  }
+
+  private static double coherencyOnly(List<ScalabilityPoint> points, double lambda) {
+    double sumZz = 0;
+    double sumZy = 0;
+    for (ScalabilityPoint point : points) {
+      if (point.throughput() <= 0) {
+        continue;
+      }
+      double z = point.scale() * (point.scale() - 1.0);
+      double y = point.scale() * lambda / point.throughput() - 1.0;
+      sumZz += z * z;
+      sumZy += z * y;
+    }
+    return sumZz == 0 ? 0.0 : sumZy / sumZz;
+  }
+}
@@ -0,0 +1,125 @@
+package com.example.fintech.perf.simulation;
+
+import com.example.fintech.perf.config.AccountPoolSettings;
+import com.example.fintech.perf.config.InjectionPhase;
+import com.example.fintech.perf.config.PerfConfig;
+import com.example.fintech.perf.config.SloLimits;
+import com.example.fintech.perf.constants.ApiEndpoints;
+import com.example.fintech.perf.data.AccountPool;
+import com.example.fintech.perf.data.PooledAccount;
+import com.example.fintech.perf.util.Users;
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.OpenInjectionStep;
+import io.gatling.javaapi.core.PopulationBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static io.gatling.javaapi.core.CoreDsl.StringBody;
+import static io.gatling.javaapi.core.CoreDsl.atOnceUsers;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.global;
+import static io.gatling.javaapi.core.CoreDsl.jsonPath;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+import static com.example.fintech.perf.constants.HttpConstants.AUTHORIZATION_HEADER;
+import static com.example.fintech.perf.constants.HttpConstants.bearerSessionToken;
+import static com.example.fintech.perf.constants.RequestBodyTemplates.AUTH_BODY_TEMPLATE;
+import static com.example.fintech.perf.constants.RequestBodyTemplates.fundAmount;
+import static com.example.fintech.perf.constants.RequestNames.Seed.FUND;
+import static com.example.fintech.perf.constants.RequestNames.Seed.LOGIN;
+import static com.example.fintech.perf.constants.RequestNames.Seed.REGISTER;
+import static com.example.fintech.perf.constants.TestDataConstants.DEFAULT_PASSWORD;
+
+public class AccountSeedSimulation extends Simulation {
+
+  private final PerfConfig config = PerfConfig.load();
+  private final AccountPoolSettings pool = config.accountPool();
+  private final int missingAccounts = Math.max(0, pool.size() - AccountPool.count(pool.file(), config.apiBaseUrl()));
+  private final Queue<PooledAccount> seededAccounts = new ConcurrentLinkedQueue<>();
+
+  private final ChainBuilder seedAccount = exec(session -> session
+      .set("username", Users.username("perf_pool"))
+      .set("password", DEFAULT_PASSWORD))
+      .exec(http(REGISTER)
+          .post(ApiEndpoints.AUTH_REGISTER)
+          .requestTimeout(config.requestTimeoutMs())
+          .body(StringBody(AUTH_BODY_TEMPLATE::render))
+          .check(status().in(200, 201))
+          .check(jsonPath("$.id").saveAs("accountId")))
+      .exec(http(LOGIN)
+          .post(ApiEndpoints.AUTH_LOGIN)
+          .requestTimeout(config.requestTimeoutMs())
+          .body(StringBody(AUTH_BODY_TEMPLATE::render))
+          .check(status().is(200))
+          .check(jsonPath("$.token").saveAs("token")))
+      .exec(http(FUND)
+          .post(ApiEndpoints.ACCOUNT_FUND)
+          .requestTimeout(config.requestTimeoutMs())
+          .header(AUTHORIZATION_HEADER, bearerSessionToken("token"))
+          .body(StringBody(fundAmount(pool.fundAmount())))
+          .check(status().is(200))
+          .check(jsonPath("$.balance").exists()))
+      .exec(session -> {
+        if (!session.isFailed()) {
+          seededAccounts.add(new PooledAccount(
+              session.getString("accountId"),
+              session.getString("username"),
+              session.getString("password")));
+        }
+        return session;
+      });
+
+  private final ScenarioBuilder seedScenario = scenario("Account Seed Scenario")
+      .exec(missingAccounts > 0 ? seedAccount : exec(session -> session));
+
+  private final List<InjectionPhase> seedPhases = seedPhases();
+
+  private final PopulationBuilder population = seedScenario.injectOpen(seedInjection());
+
+  {
+    setUp(population)
+        .protocols(BaseSimulation.httpProtocol(config))
+        .assertions(
+            global().failedRequests().percent().lte(config.slo(SloLimits.GLOBAL).maxErrorRatePercent())
+        );
+  }
+
+  @Override
+  public void before() {
+    BaseSimulation.startRun(config, getClass(), seedPhases);
+    System.out.printf("Account pool %s: seeding %d of %d accounts%n",
+        pool.file().toAbsolutePath(), missingAccounts, pool.size());
+  }
+
+  @Override
+  public void after() {
+    List<PooledAccount> accounts = new ArrayList<>(seededAccounts);
+    AccountPool.append(pool.file(), config.apiBaseUrl(), accounts);
+    System.out.printf("Account pool %s: appended %d accounts, %d total%n",
+        pool.file().toAbsolutePath(), accounts.size(), AccountPool.count(pool.file(), config.apiBaseUrl()));
+    BaseSimulation.finishRun();
+  }
+
+  private OpenInjectionStep seedInjection() {
+    if (seedPhases.isEmpty()) {
+      // Pool is already full; one no-op user keeps the run valid without registering anything new.
+      return atOnceUsers(1);
+    }
+    return seedPhases.get(0).toStep();
+  }
+
+  private List<InjectionPhase> seedPhases() {
+    if (missingAccounts == 0) {
+      return List.of();
+    }
+
+    int seconds = (int) Math.ceil(missingAccounts / pool.seedRatePerSec());
+    return List.of(new InjectionPhase.RampUsers(missingAccounts, seconds));
+  }
+}
@@ -1,62 +1,32 @@
 package com.example.fintech.perf.simulation;
 
-import com.example.fintech.perf.config.LoadProfile;
 import com.example.fintech.perf.config.PerfConfig;
-import com.example.fintech.perf.constants.ApiEndpoints;
-import com.example.fintech.perf.util.Users;
-import io.gatling.javaapi.core.ChainBuilder;
 import io.gatling.javaapi.core.PopulationBuilder;
-import io.gatling.javaapi.core.ScenarioBuilder;
 import io.gatling.javaapi.core.Simulation;
 
-import static io.gatling.javaapi.core.CoreDsl.StringBody;
-import static io.gatling.javaapi.core.CoreDsl.details;
-import static io.gatling.javaapi.core.CoreDsl.exec;
-import static io.gatling.javaapi.core.CoreDsl.global;
-import static io.gatling.javaapi.core.CoreDsl.jsonPath;
-import static io.gatling.javaapi.core.CoreDsl.scenario;
-import static io.gatling.javaapi.http.HttpDsl.http;
-import static io.gatling.javaapi.http.HttpDsl.status;
-import static com.example.fintech.perf.constants.RequestBodyTemplates.AUTH_BODY_USERNAME_PASSWORD;
-import static com.example.fintech.perf.constants.RequestNames.Auth.LOGIN;
-import static com.example.fintech.perf.constants.RequestNames.Auth.REGISTER;
-import static com.example.fintech.perf.constants.TestDataConstants.DEFAULT_PASSWORD;
+import java.util.List;
 
 public class AuthFlowSimulation extends Simulation {
 
   private final PerfConfig config = PerfConfig.load();
 
-  private final ChainBuilder registerAndLogin = exec(session -> session
-      .set("username", Users.username("perf_auth"))
-      .set("password", DEFAULT_PASSWORD))
-      .exec(http(REGISTER)
-          .post(ApiEndpoints.AUTH_REGISTER)
-          .requestTimeout(config.requestTimeoutMs())
-          .body(StringBody(AUTH_BODY_USERNAME_PASSWORD))
-          .check(status().in(200, 201))
-          .check(jsonPath("$.id").exists()))
-      .exec(http(LOGIN)
-          .post(ApiEndpoints.AUTH_LOGIN)
-          .requestTimeout(config.requestTimeoutMs())
-          .body(StringBody(AUTH_BODY_USERNAME_PASSWORD))
-          .check(status().is(200))
-          .check(jsonPath("$.token").exists())
-          .check(jsonPath("$.userId").exists()));
-
-  private final ScenarioBuilder authScenario = scenario("Auth Flow Scenario")
-      .exec(registerAndLogin);
-
-  private final PopulationBuilder population = authScenario.injectOpen(
-      LoadProfile.userInjection(config.profile(), config.loadScale()));
+  private final Journey journey = new AuthJourney(config);
+
+  private final List<PopulationBuilder> populations = BaseSimulation.populations(config, journey, 1.0);
 
   {
-    setUp(population)
+    setUp(populations)
         .protocols(BaseSimulation.httpProtocol(config))
-        .assertions(
-            global().failedRequests().percent().lte(LoadProfile.maxErrorRatePercent(config.profile())),
-            global().responseTime().percentile3().lte(LoadProfile.p95Ms(config.profile())),
-            details(REGISTER).failedRequests().percent().is(0.0),
-            details(LOGIN).failedRequests().percent().is(0.0)
-        );
+        .assertions(BaseSimulation.sloAssertions(config, journey.gatedRequests()));
+  }
+
+  @Override
+  public void before() {
+    BaseSimulation.startRun(config, getClass(), BaseSimulation.phases(config, journey));
+  }
+
+  @Override
+  public void after() {
+    BaseSimulation.finishRun();
   }
 }
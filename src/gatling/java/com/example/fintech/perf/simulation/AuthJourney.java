@@ -0,0 +1,64 @@
+package com.example.fintech.perf.simulation;
+
+import com.example.fintech.perf.config.PerfConfig;
+import com.example.fintech.perf.constants.ApiEndpoints;
+import com.example.fintech.perf.util.Users;
+import io.gatling.javaapi.core.ChainBuilder;
+
+import static io.gatling.javaapi.core.CoreDsl.StringBody;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.jsonPath;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+import static com.example.fintech.perf.constants.RequestBodyTemplates.AUTH_BODY_TEMPLATE;
+import static com.example.fintech.perf.constants.RequestNames.Auth.LOGIN;
+import static com.example.fintech.perf.constants.RequestNames.Auth.REGISTER;
+import static com.example.fintech.perf.constants.TestDataConstants.DEFAULT_PASSWORD;
+
+final class AuthJourney implements Journey {
+
+  private final ChainBuilder registerAndLogin;
+
+  AuthJourney(PerfConfig config) {
+    Validation validation = new Validation(config.validation());
+    Pacing pacing = new Pacing(config);
+    this.registerAndLogin = exec(Measured.stopIfRequested())
+        .exec(session -> session
+            .set("username", Users.username("perf_auth"))
+            .set("password", DEFAULT_PASSWORD))
+        .exec(pacing.request(REGISTER, validation.checkBody(http(REGISTER)
+            .post(ApiEndpoints.AUTH_REGISTER)
+            .requestTimeout(config.requestTimeoutMs())
+            .body(StringBody(AUTH_BODY_TEMPLATE::render))
+            .check(status().in(200, 201)),
+            jsonPath("$.id").exists())))
+        .exec(pacing.think())
+        .exec(pacing.request(LOGIN, validation.checkBody(http(LOGIN)
+            .post(ApiEndpoints.AUTH_LOGIN)
+            .requestTimeout(config.requestTimeoutMs())
+            .body(StringBody(AUTH_BODY_TEMPLATE::render))
+            .check(status().is(200)),
+            jsonPath("$.token").exists(),
+            jsonPath("$.userId").exists())));
+  }
+
+  @Override
+  public String name() {
+    return "Auth Flow";
+  }
+
+  @Override
+  public ChainBuilder chain() {
+    return registerAndLogin;
+  }
+
+  @Override
+  public String[] gatedRequests() {
+    return new String[] {REGISTER, LOGIN};
+  }
+
+  @Override
+  public double requestsPerJourney(String requestName) {
+    return REGISTER.equals(requestName) || LOGIN.equals(requestName) ? 1.0 : 0.0;
+  }
+}
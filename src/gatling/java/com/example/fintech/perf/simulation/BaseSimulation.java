@@ -1,18 +1,180 @@
 package com.example.fintech.perf.simulation;
 
+import com.example.fintech.perf.config.ConnectionModel;
+import com.example.fintech.perf.config.ConnectionSettings;
+import com.example.fintech.perf.config.InjectionPhase;
+import com.example.fintech.perf.config.LoadProfile;
 import com.example.fintech.perf.config.PerfConfig;
+import com.example.fintech.perf.config.PerfProfile;
+import com.example.fintech.perf.config.RateSettings;
+import com.example.fintech.perf.config.SloLimits;
+import com.example.fintech.perf.metrics.RunMetrics;
+import com.example.fintech.perf.stub.StubBackend;
+import com.example.fintech.perf.util.Users;
+import io.gatling.javaapi.core.Assertion;
+import io.gatling.javaapi.core.OpenInjectionStep;
+import io.gatling.javaapi.core.PopulationBuilder;
 import io.gatling.javaapi.http.HttpProtocolBuilder;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static io.gatling.javaapi.core.CoreDsl.details;
+import static io.gatling.javaapi.core.CoreDsl.global;
+import static io.gatling.javaapi.core.CoreDsl.nothingFor;
 import static io.gatling.javaapi.http.HttpDsl.http;
 
 abstract class BaseSimulation {
 
+  private static StubBackend stubBackend;
+
   protected static HttpProtocolBuilder httpProtocol(PerfConfig config) {
-    return http
+    return httpProtocol(config, false);
+  }
+
+  protected static HttpProtocolBuilder httpProtocol(PerfConfig config, boolean shareConnections) {
+    ConnectionSettings connection = config.connection();
+    HttpProtocolBuilder protocol = http
         .baseUrl(config.apiBaseUrl())
         .acceptHeader("application/json")
         .contentTypeHeader("application/json")
         .userAgentHeader("fintech-gatling-tests")
         .disableCaching();
+    if (connection.shared() || shareConnections) {
+      protocol = protocol.shareConnections();
+    }
+    if (connection.model() == ConnectionModel.HTTP2) {
+      // Negotiated through ALPN, so a plain http:// base URL stays on HTTP/1.1 over the shared pool.
+      protocol = protocol.enableHttp2();
+    }
+    if (connection.maxConnectionsPerHost() > 0) {
+      protocol = protocol.maxConnectionsPerHost(connection.maxConnectionsPerHost());
+    }
+    if (!connection.keepAlive()) {
+      protocol = protocol.connectionHeader("close");
+    }
+    // Gatling warms its client up against gatling.io by default; the target itself is the useful warm-up.
+    protocol = connection.warmUp() ? protocol.warmUp(config.apiBaseUrl()) : protocol.disableWarmUp();
+    if (connection.asyncDns() || connection.perUserDns()) {
+      protocol = protocol.asyncNameResolution(connection.dnsServers().toArray(String[]::new));
+    }
+    if (connection.perUserDns()) {
+      protocol = protocol.perUserNameResolution();
+    }
+    return protocol;
+  }
+
+  protected static List<PopulationBuilder> populations(PerfConfig config, Journey journey, double share) {
+    List<InjectionPhase> phases = phases(config, journey);
+    // Rate targets already fix each journey's load, so a mix weight does not scale it again.
+    double effectiveShare = config.profile() == PerfProfile.RATE ? 1.0 : share;
+    OpenInjectionStep[] measuredSteps = LoadProfile.userInjection(phases, effectiveShare);
+    if (config.warmupSeconds() == 0) {
+      return List.of(journey.scenario().injectOpen(measuredSteps));
+    }
+    // Measured users arrive right as the warm-up ramp ends, while warm-up users are still finishing their
+    // journeys, so the backend never idles between the two.
+    List<OpenInjectionStep> delayedSteps = new ArrayList<>();
+    delayedSteps.add(nothingFor(config.warmupSeconds()));
+    delayedSteps.addAll(List.of(measuredSteps));
+    return List.of(
+        journey.warmupScenario().injectOpen(LoadProfile.warmupInjection(config, phases, effectiveShare)),
+        journey.scenario().injectOpen(delayedSteps));
+  }
+
+  protected static List<InjectionPhase> phases(PerfConfig config, Journey journey) {
+    if (config.profile() != PerfProfile.RATE) {
+      return LoadProfile.phases(config);
+    }
+    return LoadProfile.ratePhases(config, usersPerSec(config.rate(), journey));
+  }
+
+  protected static boolean hasRateTarget(PerfConfig config, Journey journey) {
+    return config.rate().targets().keySet().stream().anyMatch(name -> journey.requestsPerJourney(name) != 0.0);
+  }
+
+  // Arrivals follow the lowest of the journey's targets, so none of its requests is pushed past its own target.
+  private static double usersPerSec(RateSettings rate, Journey journey) {
+    double usersPerSec = Double.POSITIVE_INFINITY;
+    for (Map.Entry<String, Double> target : rate.targets().entrySet()) {
+      double perJourney = journey.requestsPerJourney(target.getKey());
+      if (Double.isNaN(perJourney)) {
+        throw new IllegalArgumentException(target.getKey() + " runs for a fixed time rather than a fixed count in "
+            + journey.name() + "; set payment.pacingMs to give the loop a fixed number of iterations");
+      }
+      if (perJourney > 0) {
+        usersPerSec = Math.min(usersPerSec, target.getValue() / perJourney);
+      }
+    }
+    if (Double.isInfinite(usersPerSec)) {
+      throw new IllegalArgumentException("rate.targets has no target for " + journey.name()
+          + "; add one of " + String.join(", ", journey.gatedRequests()));
+    }
+    return usersPerSec;
+  }
+
+  protected static Assertion[] sloAssertions(PerfConfig config, String... requestNames) {
+    // A capacity search deliberately overloads the backend; its outcome is the per-step capacity report.
+    if (config.profile() == PerfProfile.CAPACITY) {
+      return new Assertion[0];
+    }
+    // A spike degrades latency on purpose; the run is judged on recovering in time, which aborts it otherwise.
+    if (config.profile() == PerfProfile.SPIKE) {
+      return new Assertion[0];
+    }
+    // Likewise a scalability sweep runs past the knee on purpose; its outcome is the fitted curve.
+    if (config.scalability().sweeping()) {
+      return new Assertion[0];
+    }
+    // A connection matrix compares models side by side; one model missing an SLO must not stop the others.
+    if (config.connection().matrixing()) {
+      return new Assertion[0];
+    }
+
+    List<Assertion> assertions = new ArrayList<>();
+    addSloAssertions(assertions, global(), config.slo(SloLimits.GLOBAL));
+    for (String requestName : requestNames) {
+      addSloAssertions(assertions, details(requestName), config.slo(requestName));
+    }
+    return assertions.toArray(Assertion[]::new);
+  }
+
+  private static void addSloAssertions(List<Assertion> assertions, Assertion.WithPath path, SloLimits limits) {
+    if (limits.p50Ms() != null) {
+      assertions.add(path.responseTime().percentile(50.0).lte(limits.p50Ms()));
+    }
+    if (limits.p95Ms() != null) {
+      assertions.add(path.responseTime().percentile(95.0).lte(limits.p95Ms()));
+    }
+    if (limits.p99Ms() != null) {
+      assertions.add(path.responseTime().percentile(99.0).lte(limits.p99Ms()));
+    }
+    if (limits.maxMs() != null) {
+      assertions.add(path.responseTime().max().lte(limits.maxMs()));
+    }
+    if (limits.maxErrorRatePercent() != null) {
+      assertions.add(path.failedRequests().percent().lte(limits.maxErrorRatePercent()));
+    }
+  }
+
+  protected static void startRun(PerfConfig config, Class<?> simulationClass) {
+    startRun(config, simulationClass, LoadProfile.phases(config));
+  }
+
+  protected static void startRun(PerfConfig config, Class<?> simulationClass, List<InjectionPhase> phases) {
+    if (config.stub().enabled()) {
+      stubBackend = StubBackend.start(config);
+    }
+    Users.useNamespace(config.injector().namespace());
+    RunMetrics.start(config, simulationClass.getSimpleName(), phases);
+  }
+
+  protected static void finishRun() {
+    RunMetrics.finish();
+    if (stubBackend != null) {
+      stubBackend.close();
+      stubBackend = null;
+    }
   }
 }
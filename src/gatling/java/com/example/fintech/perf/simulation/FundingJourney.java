@@ -0,0 +1,107 @@
+package com.example.fintech.perf.simulation;
+
+import com.example.fintech.perf.config.PerfConfig;
+import com.example.fintech.perf.constants.ApiEndpoints;
+import com.example.fintech.perf.data.AccountPool;
+import com.example.fintech.perf.data.AccountPoolFeeder;
+import com.example.fintech.perf.data.PooledAccount;
+import com.example.fintech.perf.util.Users;
+import io.gatling.javaapi.core.ChainBuilder;
+
+import java.util.List;
+
+import static io.gatling.javaapi.core.CoreDsl.StringBody;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.feed;
+import static io.gatling.javaapi.core.CoreDsl.jsonPath;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+import static com.example.fintech.perf.constants.HttpConstants.AUTHORIZATION_HEADER;
+import static com.example.fintech.perf.constants.HttpConstants.bearerSessionToken;
+import static com.example.fintech.perf.constants.RequestBodyTemplates.AUTH_BODY_TEMPLATE;
+import static com.example.fintech.perf.constants.RequestBodyTemplates.fundAmount;
+import static com.example.fintech.perf.constants.RequestNames.Funding.BALANCE;
+import static com.example.fintech.perf.constants.RequestNames.Funding.FUND;
+import static com.example.fintech.perf.constants.RequestNames.Funding.LOGIN;
+import static com.example.fintech.perf.constants.RequestNames.Funding.REGISTER;
+import static com.example.fintech.perf.constants.TestDataConstants.DEFAULT_FUND_AMOUNT;
+import static com.example.fintech.perf.constants.TestDataConstants.DEFAULT_PASSWORD;
+
+final class FundingJourney implements Journey {
+
+  private static final String FUND_BODY_TEMPLATE = fundAmount(DEFAULT_FUND_AMOUNT);
+
+  private final boolean pooled;
+  private final ChainBuilder fundingJourney;
+
+  FundingJourney(PerfConfig config) {
+    Validation validation = new Validation(config.validation());
+    Pacing pacing = new Pacing(config);
+    this.pooled = config.accountPool().pooled();
+    List<PooledAccount> pooledAccounts = pooled
+        ? AccountPool.load(config.accountPool().file(), config.apiBaseUrl())
+        : List.of();
+
+    ChainBuilder registeredAccount = exec(session -> session
+        .set("username", Users.username("perf_fund"))
+        .set("password", DEFAULT_PASSWORD))
+        .exec(pacing.request(REGISTER, http(REGISTER)
+            .post(ApiEndpoints.AUTH_REGISTER)
+            .requestTimeout(config.requestTimeoutMs())
+            .body(StringBody(AUTH_BODY_TEMPLATE::render))
+            .check(status().in(200, 201))
+            .check(validation.save("id", "accountId"))))
+        .exec(pacing.think());
+
+    ChainBuilder pooledAccount = feed(
+        AccountPoolFeeder.feeder(pooledAccounts, config.accountPool().strategy(), ""));
+
+    this.fundingJourney = exec(Measured.stopIfRequested())
+        .exec(pooled ? pooledAccount : registeredAccount)
+        .exec(pacing.request(LOGIN, http(LOGIN)
+            .post(ApiEndpoints.AUTH_LOGIN)
+            .requestTimeout(config.requestTimeoutMs())
+            .body(StringBody(AUTH_BODY_TEMPLATE::render))
+            .check(status().is(200))
+            .check(validation.save("token", "token"))))
+        .exec(pacing.think())
+        .exec(pacing.request(FUND, validation.checkBody(http(FUND)
+            .post(ApiEndpoints.ACCOUNT_FUND)
+            .requestTimeout(config.requestTimeoutMs())
+            .header(AUTHORIZATION_HEADER, bearerSessionToken("token"))
+            .body(StringBody(FUND_BODY_TEMPLATE))
+            .check(status().is(200)),
+            jsonPath("$.balance").exists())))
+        .exec(pacing.think())
+        .exec(pacing.request(BALANCE, validation.checkBody(http(BALANCE)
+            .get(ApiEndpoints.ACCOUNT_BALANCE)
+            .requestTimeout(config.requestTimeoutMs())
+            .header(AUTHORIZATION_HEADER, bearerSessionToken("token"))
+            .check(status().is(200)),
+            jsonPath("$.balance").exists())));
+  }
+
+  @Override
+  public String name() {
+    return "Account Funding";
+  }
+
+  @Override
+  public ChainBuilder chain() {
+    return fundingJourney;
+  }
+
+  @Override
+  public String[] gatedRequests() {
+    return new String[] {FUND, BALANCE};
+  }
+
+  @Override
+  public double requestsPerJourney(String requestName) {
+    return switch (requestName) {
+      case REGISTER -> pooled ? 0.0 : 1.0;
+      case LOGIN, FUND, BALANCE -> 1.0;
+      default -> 0.0;
+    };
+  }
+}
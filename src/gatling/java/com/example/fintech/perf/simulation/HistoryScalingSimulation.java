@@ -0,0 +1,218 @@
+package com.example.fintech.perf.simulation;
+
+import com.example.fintech.perf.config.HistorySettings;
+import com.example.fintech.perf.config.LoadProfile;
+import com.example.fintech.perf.config.PerfConfig;
+import com.example.fintech.perf.constants.ApiEndpoints;
+import com.example.fintech.perf.data.PooledAccount;
+import com.example.fintech.perf.metrics.HistoryScalingReport;
+import com.example.fintech.perf.metrics.RunMetrics;
+import com.example.fintech.perf.util.BodyTemplate;
+import com.example.fintech.perf.util.Users;
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.PopulationBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Session;
+import io.gatling.javaapi.core.Simulation;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.gatling.javaapi.core.CoreDsl.StringBody;
+import static io.gatling.javaapi.core.CoreDsl.atOnceUsers;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.jsonPath;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.core.CoreDsl.uniformRandomSwitch;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+import static com.example.fintech.perf.constants.HttpConstants.AUTHORIZATION_HEADER;
+import static com.example.fintech.perf.constants.HttpConstants.bearerSessionToken;
+import static com.example.fintech.perf.constants.RequestBodyTemplates.AUTH_BODY_TEMPLATE;
+import static com.example.fintech.perf.constants.RequestBodyTemplates.auth;
+import static com.example.fintech.perf.constants.RequestBodyTemplates.fundAmount;
+import static com.example.fintech.perf.constants.RequestBodyTemplates.payment;
+import static com.example.fintech.perf.constants.RequestNames.History.LOGIN;
+import static com.example.fintech.perf.constants.RequestNames.History.PREP_FUND;
+import static com.example.fintech.perf.constants.RequestNames.History.PREP_LOGIN;
+import static com.example.fintech.perf.constants.RequestNames.History.PREP_PAYEE_REGISTER;
+import static com.example.fintech.perf.constants.RequestNames.History.PREP_PAYER_REGISTER;
+import static com.example.fintech.perf.constants.RequestNames.History.PREP_TRANSFER;
+import static com.example.fintech.perf.constants.RequestNames.History.balance;
+import static com.example.fintech.perf.constants.RequestNames.History.transactions;
+import static com.example.fintech.perf.constants.TestDataConstants.DEFAULT_FUND_AMOUNT;
+import static com.example.fintech.perf.constants.TestDataConstants.DEFAULT_PASSWORD;
+import static com.example.fintech.perf.constants.TestDataConstants.DEFAULT_PAYMENT_AMOUNT;
+
+public class HistoryScalingSimulation extends Simulation {
+
+  private static final BodyTemplate PAYEE_AUTH_BODY_TEMPLATE = BodyTemplate.compile(auth("payeeUsername", "password"));
+  private static final BodyTemplate FUND_BODY_TEMPLATE = BodyTemplate.compile(fundAmount("#{fundAmount}"));
+  private static final BodyTemplate PAYMENT_BODY_TEMPLATE =
+      BodyTemplate.compile(payment("accountId", "payeeAccountId", DEFAULT_PAYMENT_AMOUNT));
+
+  private final PerfConfig config = PerfConfig.load();
+  private final Validation validation = new Validation(config.validation());
+  private final HistorySettings history = config.history();
+
+  private final List<Integer> preparationSizes = preparationSizes();
+  private final AtomicInteger nextPreparation = new AtomicInteger();
+  private final Map<Integer, List<PooledAccount>> preparedAccounts = new ConcurrentHashMap<>();
+  private final Map<Integer, AtomicInteger> nextAccount = new ConcurrentHashMap<>();
+
+  // Builds one account per user with exactly historySize outgoing transfers; every preparation request is
+  // silent so it stays out of the reports and the global assertions.
+  private final ChainBuilder prepareAccount = exec(session -> {
+    int historySize = preparationSizes.get(nextPreparation.getAndIncrement() % preparationSizes.size());
+    return session
+        .set("historySize", historySize)
+        .set("fundAmount", requiredFunds(historySize))
+        .set("username", Users.username("perf_history"))
+        .set("payeeUsername", Users.username("perf_history_payee"))
+        .set("password", DEFAULT_PASSWORD);
+  })
+      .exec(http(PREP_PAYER_REGISTER)
+          .post(ApiEndpoints.AUTH_REGISTER)
+          .requestTimeout(config.requestTimeoutMs())
+          .body(StringBody(AUTH_BODY_TEMPLATE::render))
+          .check(status().in(200, 201))
+          .check(jsonPath("$.id").saveAs("accountId"))
+          .silent())
+      .exec(http(PREP_PAYEE_REGISTER)
+          .post(ApiEndpoints.AUTH_REGISTER)
+          .requestTimeout(config.requestTimeoutMs())
+          .body(StringBody(PAYEE_AUTH_BODY_TEMPLATE::render))
+          .check(status().in(200, 201))
+          .check(jsonPath("$.id").saveAs("payeeAccountId"))
+          .silent())
+      .exec(http(PREP_LOGIN)
+          .post(ApiEndpoints.AUTH_LOGIN)
+          .requestTimeout(config.requestTimeoutMs())
+          .body(StringBody(AUTH_BODY_TEMPLATE::render))
+          .check(status().is(200))
+          .check(jsonPath("$.token").saveAs("token"))
+          .silent())
+      .exec(http(PREP_FUND)
+          .post(ApiEndpoints.ACCOUNT_FUND)
+          .requestTimeout(config.requestTimeoutMs())
+          .header(AUTHORIZATION_HEADER, bearerSessionToken("token"))
+          .body(StringBody(FUND_BODY_TEMPLATE::render))
+          .check(status().is(200))
+          .silent())
+      .exitHereIfFailed()
+      .repeat(session -> session.getInt("historySize")).on(exec(http(PREP_TRANSFER)
+          .post(ApiEndpoints.TRANSACTION_PAYMENT)
+          .requestTimeout(config.requestTimeoutMs())
+          .header(AUTHORIZATION_HEADER, bearerSessionToken("token"))
+          .body(StringBody(PAYMENT_BODY_TEMPLATE::render))
+          .check(status().is(200))
+          .silent()))
+      .exec(session -> {
+        if (!session.isFailed()) {
+          preparedAccounts.computeIfAbsent(session.getInt("historySize"), size -> new CopyOnWriteArrayList<>())
+              .add(new PooledAccount(
+                  session.getString("accountId"),
+                  session.getString("username"),
+                  session.getString("password")));
+        }
+        return session;
+      });
+
+  private final ScenarioBuilder preparationScenario = scenario("History Preparation Scenario")
+      .exec(prepareAccount);
+
+  private final ScenarioBuilder readScenario = scenario("History Read Scenario")
+      .exec(Measured.measurementStart())
+      .exec(Measured.stopIfRequested())
+      .exec(uniformRandomSwitch().on(history.sizes().stream()
+          .map(this::readHistory)
+          .toArray(ChainBuilder[]::new)));
+
+  private final PopulationBuilder population = preparationScenario
+      .injectOpen(atOnceUsers(history.preparedAccounts()))
+      .andThen(readScenario.injectOpen(LoadProfile.userInjection(config)));
+
+  {
+    setUp(population)
+        .protocols(BaseSimulation.httpProtocol(config))
+        .assertions(BaseSimulation.sloAssertions(config, measuredRequests().keySet().toArray(String[]::new)));
+  }
+
+  @Override
+  public void before() {
+    // Read users start only after preparation finishes, so intended start times are not known up front.
+    BaseSimulation.startRun(config, getClass(), List.of());
+    RunMetrics.register(new HistoryScalingReport(config, getClass().getSimpleName(), measuredRequests()));
+    System.out.printf("Preparing %d accounts per history size %s%n", history.accountsPerSize(), history.sizes());
+  }
+
+  @Override
+  public void after() {
+    preparedAccounts.forEach((size, accounts) ->
+        System.out.printf("History size %d: %d prepared accounts%n", size, accounts.size()));
+    BaseSimulation.finishRun();
+  }
+
+  private ChainBuilder readHistory(int historySize) {
+    String transactionsRequest = transactions(historySize);
+    String balanceRequest = balance(historySize);
+    return exec(session -> selectAccount(session, historySize))
+        .exitHereIfFailed()
+        .exec(Measured.request(LOGIN, http(LOGIN)
+            .post(ApiEndpoints.AUTH_LOGIN)
+            .requestTimeout(config.requestTimeoutMs())
+            .body(StringBody(AUTH_BODY_TEMPLATE::render))
+            .check(status().is(200))
+            .check(validation.save("token", "token"))))
+        .exec(Measured.request(transactionsRequest, http(transactionsRequest)
+            .get(ApiEndpoints.TRANSACTION_HISTORY)
+            .requestTimeout(config.requestTimeoutMs())
+            .header(AUTHORIZATION_HEADER, bearerSessionToken("token"))
+            .check(status().is(200))))
+        .exec(Measured.request(balanceRequest, validation.checkBody(http(balanceRequest)
+            .get(ApiEndpoints.ACCOUNT_BALANCE)
+            .requestTimeout(config.requestTimeoutMs())
+            .header(AUTHORIZATION_HEADER, bearerSessionToken("token"))
+            .check(status().is(200)),
+            jsonPath("$.balance").exists())));
+  }
+
+  private Session selectAccount(Session session, int historySize) {
+    List<PooledAccount> accounts = preparedAccounts.getOrDefault(historySize, List.of());
+    if (accounts.isEmpty()) {
+      return session.markAsFailed();
+    }
+    int index = nextAccount.computeIfAbsent(historySize, size -> new AtomicInteger()).getAndIncrement();
+    PooledAccount account = accounts.get(Math.floorMod(index, accounts.size()));
+    return session
+        .set("accountId", account.accountId())
+        .set("username", account.username())
+        .set("password", account.password());
+  }
+
+  private Map<String, Integer> measuredRequests() {
+    Map<String, Integer> requests = new LinkedHashMap<>();
+    history.sizes().forEach(size -> requests.put(transactions(size), size));
+    history.sizes().forEach(size -> requests.put(balance(size), size));
+    return requests;
+  }
+
+  private List<Integer> preparationSizes() {
+    List<Integer> sizes = new ArrayList<>();
+    for (int account = 0; account < history.accountsPerSize(); account++) {
+      sizes.addAll(history.sizes());
+    }
+    return List.copyOf(sizes);
+  }
+
+  private static String requiredFunds(int historySize) {
+    BigDecimal required = new BigDecimal(DEFAULT_PAYMENT_AMOUNT).multiply(BigDecimal.valueOf(historySize));
+    return required.max(new BigDecimal(DEFAULT_FUND_AMOUNT)).toPlainString();
+  }
+}
@@ -0,0 +1,89 @@
+package com.example.fintech.perf.simulation;
+
+import com.example.fintech.perf.config.LoadProfile;
+import com.example.fintech.perf.config.PerfConfig;
+import com.example.fintech.perf.constants.ApiEndpoints;
+import com.example.fintech.perf.data.AccountPool;
+import com.example.fintech.perf.data.HotAccountSelector;
+import com.example.fintech.perf.metrics.HotspotReport;
+import com.example.fintech.perf.metrics.RunMetrics;
+import com.example.fintech.perf.util.BodyTemplate;
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.PopulationBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+
+import static io.gatling.javaapi.core.CoreDsl.StringBody;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.jsonPath;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+import static com.example.fintech.perf.constants.HttpConstants.AUTHORIZATION_HEADER;
+import static com.example.fintech.perf.constants.HttpConstants.bearerSessionToken;
+import static com.example.fintech.perf.constants.RequestBodyTemplates.auth;
+import static com.example.fintech.perf.constants.RequestBodyTemplates.payment;
+import static com.example.fintech.perf.constants.RequestNames.Hotspot.PAYER_LOGIN;
+import static com.example.fintech.perf.constants.RequestNames.Hotspot.TRANSFER;
+import static com.example.fintech.perf.constants.TestDataConstants.DEFAULT_PAYMENT_AMOUNT;
+
+public class HotAccountSimulation extends Simulation {
+
+  private static final BodyTemplate PAYER_AUTH_BODY_TEMPLATE = BodyTemplate.compile(auth("payerUsername", "password"));
+  private static final BodyTemplate PAYMENT_BODY_TEMPLATE =
+      BodyTemplate.compile(payment("payerAccountId", "payeeAccountId", DEFAULT_PAYMENT_AMOUNT));
+
+  private final PerfConfig config = PerfConfig.load();
+  private final Validation validation = new Validation(config.validation());
+
+  private final HotAccountSelector selector = new HotAccountSelector(
+      AccountPool.load(config.accountPool().file(), config.apiBaseUrl()), config.hotspot());
+
+  // Every virtual user sends one transfer, so tokens are shared per payer account: once each payer has logged in,
+  // only transfers reach the backend.
+  private final PayerTokens tokens = PayerTokens.sharedByAccount(config.paymentLoop().tokenTtlSeconds());
+
+  private final ChainBuilder payerLogin = tokens.login(Measured.request(PAYER_LOGIN, http(PAYER_LOGIN)
+      .post(ApiEndpoints.AUTH_LOGIN)
+      .requestTimeout(config.requestTimeoutMs())
+      .body(StringBody(PAYER_AUTH_BODY_TEMPLATE::render))
+      .check(status().is(200))
+      .check(validation.save("token", PayerTokens.TOKEN))));
+
+  private final ChainBuilder hotTransfer = exec(Measured.stopIfRequested())
+      .feed(selector.feeder())
+      .exec(tokens.ensureFresh(payerLogin))
+      .exec(Measured.request(TRANSFER, validation.checkBody(http(TRANSFER)
+          .post(ApiEndpoints.TRANSACTION_PAYMENT)
+          .requestTimeout(config.requestTimeoutMs())
+          .header(AUTHORIZATION_HEADER, bearerSessionToken("payerToken"))
+          .body(StringBody(PAYMENT_BODY_TEMPLATE::render))
+          .check(status().saveAs(PayerTokens.LAST_STATUS))
+          .check(status().is(200)),
+          jsonPath("$.transactionId").exists(),
+          jsonPath("$.status").is("SUCCESS"))))
+      .exec(tokens.reloginIfUnauthorized(payerLogin));
+
+  private final ScenarioBuilder hotspotScenario = scenario("Hot Account Scenario")
+      .exec(hotTransfer);
+
+  private final PopulationBuilder population = hotspotScenario.injectOpen(
+      LoadProfile.userInjection(config));
+
+  {
+    setUp(population)
+        .protocols(BaseSimulation.httpProtocol(config))
+        .assertions(BaseSimulation.sloAssertions(config, TRANSFER));
+  }
+
+  @Override
+  public void before() {
+    BaseSimulation.startRun(config, getClass());
+    RunMetrics.register(new HotspotReport(config, getClass().getSimpleName(), TRANSFER));
+  }
+
+  @Override
+  public void after() {
+    BaseSimulation.finishRun();
+  }
+}
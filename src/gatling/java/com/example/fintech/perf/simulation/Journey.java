@@ -0,0 +1,29 @@
+package com.example.fintech.perf.simulation;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.CoreDsl;
+import io.gatling.javaapi.core.ScenarioBuilder;
+
+interface Journey {
+
+  String name();
+
+  ChainBuilder chain();
+
+  String[] gatedRequests();
+
+  // How often one user's journey sends the request, used to turn a target request rate into user arrivals.
+  double requestsPerJourney(String requestName);
+
+  default ScenarioBuilder scenario() {
+    return CoreDsl.scenario(name() + " Scenario")
+        .exec(Measured.measurementStart())
+        .exec(chain());
+  }
+
+  default ScenarioBuilder warmupScenario() {
+    return CoreDsl.scenario(name() + " Warm-up")
+        .exec(Measured.warmupStart())
+        .exec(chain());
+  }
+}
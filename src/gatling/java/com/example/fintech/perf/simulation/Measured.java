@@ -0,0 +1,95 @@
+package com.example.fintech.perf.simulation;
+
+import com.example.fintech.perf.metrics.ResponseSample;
+import com.example.fintech.perf.metrics.RunControl;
+import com.example.fintech.perf.metrics.RunMetrics;
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.Session;
+import io.gatling.javaapi.http.HttpRequestActionBuilder;
+
+import static io.gatling.javaapi.core.CoreDsl.crashLoadGenerator;
+import static io.gatling.javaapi.core.CoreDsl.doIf;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.stopLoadGenerator;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+final class Measured {
+
+  private static final String JOURNEY_STARTED_AT_MS = "measuredJourneyStartedAtMs";
+  private static final String SENT_AT_MS = "measuredSentAtMs";
+  private static final String SENT_AT_NANOS = "measuredSentAtNanos";
+  private static final String FAILED_BEFORE = "measuredFailedBefore";
+  private static final String STATUS = "measuredStatus";
+  private static final String WARMUP = "measuredWarmup";
+  private static final String STOP_REASON = "stopReason";
+
+  private Measured() {
+    // utility class
+  }
+
+  static ChainBuilder warmupStart() {
+    return exec(session -> session.set(WARMUP, true));
+  }
+
+  static ChainBuilder measurementStart() {
+    return exec(session -> {
+      RunMetrics.startMeasurement(session.userId());
+      return session;
+    });
+  }
+
+  static ChainBuilder request(String requestName, HttpRequestActionBuilder request) {
+    return request(requestName, request, 0);
+  }
+
+  // The expected interval is how often the user means to send this request; 0 when it has no fixed cadence.
+  static ChainBuilder request(String requestName, HttpRequestActionBuilder request, long expectedIntervalMs) {
+    HttpRequestActionBuilder checked = request.check(status().saveAs(STATUS));
+    return exec(session -> {
+      long now = System.currentTimeMillis();
+      Session started = session.contains(JOURNEY_STARTED_AT_MS) ? session : session.set(JOURNEY_STARTED_AT_MS, now);
+      return started
+          .set(SENT_AT_MS, now)
+          .set(SENT_AT_NANOS, System.nanoTime())
+          .set(FAILED_BEFORE, session.isFailed())
+          .remove(STATUS);
+    })
+        // Silent requests stay out of Gatling's statistics, so warm-up traffic never reaches the assertions.
+        .doIfOrElse(Measured::warmingUp).then(exec(checked.silent())).orElse(exec(checked))
+        .exec(session -> {
+          long latencyMs = (System.nanoTime() - session.getLong(SENT_AT_NANOS)) / 1_000_000L;
+          RunMetrics.record(new ResponseSample(
+              requestName,
+              session.userId(),
+              session.getLong(JOURNEY_STARTED_AT_MS),
+              session.getLong(SENT_AT_MS),
+              latencyMs,
+              expectedIntervalMs,
+              succeeded(session),
+              warmingUp(session)));
+          return session;
+        });
+  }
+
+  static ChainBuilder stopIfRequested() {
+    // An abort crashes the load generator so the run exits as failed; a plain stop ends it normally.
+    return doIf(session -> RunControl.stopRequested()).then(
+        exec(session -> session.set(STOP_REASON, RunControl.stopReason()))
+            .doIfOrElse(session -> RunControl.abortRequested())
+            .then(exec(crashLoadGenerator("#{" + STOP_REASON + "}")))
+            .orElse(exec(stopLoadGenerator("#{" + STOP_REASON + "}"))));
+  }
+
+  private static boolean warmingUp(Session session) {
+    return session.contains(WARMUP);
+  }
+
+  private static boolean succeeded(Session session) {
+    // A session that was already failed cannot tell us about this request, so fall back to its status code.
+    if (!session.getBoolean(FAILED_BEFORE)) {
+      return !session.isFailed();
+    }
+    Integer status = session.get(STATUS);
+    return status != null && status < 400;
+  }
+}
@@ -0,0 +1,56 @@
+package com.example.fintech.perf.simulation;
+
+import com.example.fintech.perf.config.MixSettings;
+import com.example.fintech.perf.config.PerfConfig;
+import com.example.fintech.perf.config.PerfProfile;
+import io.gatling.javaapi.core.PopulationBuilder;
+import io.gatling.javaapi.core.Simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class MixedTrafficSimulation extends Simulation {
+
+  private final PerfConfig config = PerfConfig.load();
+  private final MixSettings mix = config.mix();
+
+  private final List<PopulationBuilder> populations = new ArrayList<>();
+  private final List<String> gatedRequests = new ArrayList<>();
+
+  {
+    addJourney(new AuthJourney(config), mix.authWeight());
+    addJourney(new FundingJourney(config), mix.fundingWeight());
+    addJourney(new PaymentJourney(config), mix.paymentWeight());
+    if (populations.isEmpty()) {
+      throw new IllegalArgumentException(
+          "Mixed traffic needs at least one journey with a weight above 0, or with a target under the rate profile");
+    }
+
+    setUp(populations)
+        .protocols(BaseSimulation.httpProtocol(config, mix.shareConnections()))
+        .assertions(BaseSimulation.sloAssertions(config, gatedRequests.toArray(String[]::new)));
+  }
+
+  @Override
+  public void before() {
+    // Users of the three populations interleave, so no single injection schedule describes their arrivals.
+    BaseSimulation.startRun(config, getClass(), List.of());
+  }
+
+  @Override
+  public void after() {
+    BaseSimulation.finishRun();
+  }
+
+  private void addJourney(Journey journey, double weight) {
+    // Under the rate profile a journey takes part when rate.targets names one of its requests.
+    boolean included = config.profile() == PerfProfile.RATE
+        ? BaseSimulation.hasRateTarget(config, journey)
+        : weight > 0;
+    if (!included) {
+      return;
+    }
+    populations.addAll(BaseSimulation.populations(config, journey, weight));
+    gatedRequests.addAll(List.of(journey.gatedRequests()));
+  }
+}
@@ -0,0 +1,107 @@
+package com.example.fintech.perf.simulation;
+
+import com.example.fintech.perf.config.PaymentLoopSettings;
+import com.example.fintech.perf.config.PerfConfig;
+import com.example.fintech.perf.config.PerfProfile;
+import com.example.fintech.perf.config.ThinkTimeSettings;
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.http.HttpRequestActionBuilder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.pause;
+
+final class Pacing {
+
+  private final PerfConfig config;
+  private final ThinkTimeSettings thinkTime;
+  private final PaymentLoopSettings loop;
+  private final Map<String, Throttle> throttles = new ConcurrentHashMap<>();
+
+  Pacing(PerfConfig config) {
+    this.config = config;
+    this.thinkTime = config.thinkTime();
+    this.loop = config.paymentLoop();
+  }
+
+  // Under the rate profile a request with a target is throttled to it, so users that arrive late after a stall
+  // catch up at the target rate instead of hitting the backend in a burst.
+  // One-shot requests never repeat, so they have no cadence to back-fill against.
+  ChainBuilder request(String requestName, HttpRequestActionBuilder request) {
+    return request(requestName, request, 0);
+  }
+
+  // Only a paced loop repeats at a fixed cadence; think time varies from one iteration to the next.
+  ChainBuilder loopRequest(String requestName, HttpRequestActionBuilder request) {
+    return request(requestName, request, loop.paced() ? loop.pacingMs() : 0);
+  }
+
+  private ChainBuilder request(String requestName, HttpRequestActionBuilder request, long expectedIntervalMs) {
+    Double target = config.profile() == PerfProfile.RATE ? config.rate().target(requestName) : null;
+    if (target == null) {
+      return Measured.request(requestName, request, expectedIntervalMs);
+    }
+    double ratePerSec = target * Math.max(1, config.loadScale()) * config.injector().share();
+    Throttle throttle = throttles.computeIfAbsent(requestName, name -> new Throttle(ratePerSec));
+    return exec(pause(session -> Duration.ofMillis(throttle.delayMs())))
+        .exec(Measured.request(requestName, request, expectedIntervalMs));
+  }
+
+  ChainBuilder think() {
+    if (!thinkTime.enabled()) {
+      return exec(session -> session);
+    }
+    return exec(pause(session -> Duration.ofMillis(thinkTimeMs())));
+  }
+
+  private long thinkTimeMs() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    double mean = thinkTime.meanMs();
+    double spread = thinkTime.stdDevMs();
+    double sample = switch (thinkTime.distribution()) {
+      case CONSTANT -> mean;
+      case UNIFORM -> mean + (2.0 * random.nextDouble() - 1.0) * thinkTime.uniformHalfWidthMs();
+      case EXPONENTIAL -> -mean * Math.log(1.0 - random.nextDouble());
+      case LOG_NORMAL -> {
+        // Parameters of the underlying normal distribution that give the configured mean and standard deviation.
+        double sigmaSquared = Math.log(1.0 + (spread * spread) / (mean * mean));
+        double mu = Math.log(mean) - sigmaSquared / 2.0;
+        yield Math.exp(mu + Math.sqrt(sigmaSquared) * random.nextGaussian());
+      }
+    };
+    return Math.round(sample);
+  }
+
+  // A token bucket that holds at most one second of requests, enough to absorb scheduling jitter.
+  static final class Throttle {
+
+    private final long intervalNanos;
+    private final long burstNanos = Duration.ofSeconds(1).toNanos();
+    private final AtomicLong nextSlotNanos;
+
+    Throttle(double ratePerSec) {
+      this(ratePerSec, System.nanoTime());
+    }
+
+    Throttle(double ratePerSec, long startNanos) {
+      this.intervalNanos = Math.max(1, Math.round(1_000_000_000.0 / ratePerSec));
+      this.nextSlotNanos = new AtomicLong(startNanos);
+    }
+
+    long delayMs() {
+      return delayMs(System.nanoTime());
+    }
+
+    long delayMs(long nowNanos) {
+      long earliest = nowNanos - burstNanos;
+      long previous = nextSlotNanos.getAndAccumulate(earliest, (next, floor) -> Math.max(next, floor) + intervalNanos);
+      long slot = Math.max(previous, earliest);
+      return Math.max(0, (slot - nowNanos) / 1_000_000);
+    }
+  }
+}
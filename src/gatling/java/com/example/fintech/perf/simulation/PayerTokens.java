@@ -0,0 +1,93 @@
+package com.example.fintech.perf.simulation;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.Session;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.gatling.javaapi.core.CoreDsl.doIf;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+
+// Logs a payer in once and keeps the token until it expires or the backend rejects it with a 401.
+final class PayerTokens {
+
+  static final String TOKEN = "payerToken";
+  static final String LAST_STATUS = "lastStatus";
+
+  private static final String ISSUED_AT = "payerTokenIssuedAt";
+  private static final int UNAUTHORIZED = 401;
+
+  private final int ttlSeconds;
+  // Keyed by payerAccountId; null when each virtual user keeps the token it logged in with.
+  private final Map<String, IssuedToken> sharedByAccount;
+
+  private PayerTokens(int ttlSeconds, Map<String, IssuedToken> sharedByAccount) {
+    this.ttlSeconds = ttlSeconds;
+    this.sharedByAccount = sharedByAccount;
+  }
+
+  static PayerTokens perUser(int ttlSeconds) {
+    return new PayerTokens(ttlSeconds, null);
+  }
+
+  // For open-model scenarios where every virtual user sends a single request for one of a fixed set of payers.
+  static PayerTokens sharedByAccount(int ttlSeconds) {
+    return new PayerTokens(ttlSeconds, new ConcurrentHashMap<>());
+  }
+
+  ChainBuilder login(ChainBuilder loginRequest) {
+    return exec(loginRequest).exec(session -> remember(session
+        .set(ISSUED_AT, System.currentTimeMillis())
+        .remove(LAST_STATUS)));
+  }
+
+  ChainBuilder ensureFresh(ChainBuilder login) {
+    return exec(this::restore).exec(doIf(this::missingOrExpired).then(login));
+  }
+
+  ChainBuilder reloginIfUnauthorized(ChainBuilder login) {
+    return doIf(session -> Integer.valueOf(UNAUTHORIZED).equals(session.get(LAST_STATUS)))
+        .then(exec(this::forget).exec(login));
+  }
+
+  private Session remember(Session session) {
+    if (sharedByAccount != null && session.contains(TOKEN)) {
+      sharedByAccount.put(
+          session.getString("payerAccountId"),
+          new IssuedToken(session.getString(TOKEN), session.getLong(ISSUED_AT)));
+    }
+    return session;
+  }
+
+  private Session restore(Session session) {
+    if (sharedByAccount == null || session.contains(TOKEN)) {
+      return session;
+    }
+    IssuedToken cached = sharedByAccount.get(session.getString("payerAccountId"));
+    return cached == null ? session : session.set(TOKEN, cached.token()).set(ISSUED_AT, cached.issuedAtMs());
+  }
+
+  private Session forget(Session session) {
+    // Only drop the shared token this user was rejected with, not one another user has since refreshed.
+    if (sharedByAccount != null && session.contains(TOKEN)) {
+      sharedByAccount.remove(
+          session.getString("payerAccountId"),
+          new IssuedToken(session.getString(TOKEN), session.getLong(ISSUED_AT)));
+    }
+    return session.remove(TOKEN);
+  }
+
+  private boolean missingOrExpired(Session session) {
+    if (!session.contains(TOKEN)) {
+      return true;
+    }
+    if (ttlSeconds == 0) {
+      return false;
+    }
+    return System.currentTimeMillis() - session.getLong(ISSUED_AT) >= ttlSeconds * 1_000L;
+  }
+
+  private record IssuedToken(String token, long issuedAtMs) {
+  }
+}
@@ -1,112 +1,32 @@
 package com.example.fintech.perf.simulation;
 
-import com.example.fintech.perf.config.LoadProfile;
 import com.example.fintech.perf.config.PerfConfig;
-import com.example.fintech.perf.constants.ApiEndpoints;
-import com.example.fintech.perf.util.Users;
-import io.gatling.javaapi.core.ChainBuilder;
 import io.gatling.javaapi.core.PopulationBuilder;
-import io.gatling.javaapi.core.ScenarioBuilder;
 import io.gatling.javaapi.core.Simulation;
 
-import static io.gatling.javaapi.core.CoreDsl.StringBody;
-import static io.gatling.javaapi.core.CoreDsl.details;
-import static io.gatling.javaapi.core.CoreDsl.exec;
-import static io.gatling.javaapi.core.CoreDsl.global;
-import static io.gatling.javaapi.core.CoreDsl.jsonPath;
-import static io.gatling.javaapi.core.CoreDsl.scenario;
-import static io.gatling.javaapi.http.HttpDsl.http;
-import static io.gatling.javaapi.http.HttpDsl.status;
-import static com.example.fintech.perf.constants.HttpConstants.AUTHORIZATION_HEADER;
-import static com.example.fintech.perf.constants.HttpConstants.bearerSessionToken;
-import static com.example.fintech.perf.constants.RequestBodyTemplates.auth;
-import static com.example.fintech.perf.constants.RequestBodyTemplates.fundAmount;
-import static com.example.fintech.perf.constants.RequestBodyTemplates.payment;
-import static com.example.fintech.perf.constants.RequestNames.Payment.PAYER_BALANCE;
-import static com.example.fintech.perf.constants.RequestNames.Payment.PAYER_FUND;
-import static com.example.fintech.perf.constants.RequestNames.Payment.PAYER_LOGIN;
-import static com.example.fintech.perf.constants.RequestNames.Payment.PAYER_REGISTER;
-import static com.example.fintech.perf.constants.RequestNames.Payment.PAYER_TRANSACTIONS;
-import static com.example.fintech.perf.constants.RequestNames.Payment.PAYEE_REGISTER;
-import static com.example.fintech.perf.constants.RequestNames.Payment.TRANSFER;
-import static com.example.fintech.perf.constants.TestDataConstants.DEFAULT_FUND_AMOUNT;
-import static com.example.fintech.perf.constants.TestDataConstants.DEFAULT_PAYMENT_AMOUNT;
-import static com.example.fintech.perf.constants.TestDataConstants.DEFAULT_PASSWORD;
+import java.util.List;
 
 public class PaymentFlowSimulation extends Simulation {
 
-  private static final String PAYER_AUTH_BODY_TEMPLATE = auth("payerUsername", "password");
-  private static final String PAYEE_AUTH_BODY_TEMPLATE = auth("payeeUsername", "password");
-  private static final String FUND_BODY_TEMPLATE = fundAmount(DEFAULT_FUND_AMOUNT);
-  private static final String PAYMENT_BODY_TEMPLATE = payment("payerAccountId", "payeeAccountId", DEFAULT_PAYMENT_AMOUNT);
-
   private final PerfConfig config = PerfConfig.load();
 
-  private final ChainBuilder paymentJourney = exec(session -> session
-      .set("payerUsername", Users.username("perf_payer"))
-      .set("payeeUsername", Users.username("perf_payee"))
-      .set("password", DEFAULT_PASSWORD))
-      .exec(http(PAYER_REGISTER)
-          .post(ApiEndpoints.AUTH_REGISTER)
-          .requestTimeout(config.requestTimeoutMs())
-          .body(StringBody(PAYER_AUTH_BODY_TEMPLATE))
-          .check(status().in(200, 201))
-          .check(jsonPath("$.id").saveAs("payerAccountId")))
-      .exec(http(PAYEE_REGISTER)
-          .post(ApiEndpoints.AUTH_REGISTER)
-          .requestTimeout(config.requestTimeoutMs())
-          .body(StringBody(PAYEE_AUTH_BODY_TEMPLATE))
-          .check(status().in(200, 201))
-          .check(jsonPath("$.id").saveAs("payeeAccountId")))
-      .exec(http(PAYER_LOGIN)
-          .post(ApiEndpoints.AUTH_LOGIN)
-          .requestTimeout(config.requestTimeoutMs())
-          .body(StringBody(PAYER_AUTH_BODY_TEMPLATE))
-          .check(status().is(200))
-          .check(jsonPath("$.token").saveAs("payerToken")))
-      .exec(session -> session.set("accountId", session.getString("payerAccountId")))
-      .exec(http(PAYER_FUND)
-          .post(ApiEndpoints.ACCOUNT_FUND)
-          .requestTimeout(config.requestTimeoutMs())
-          .header(AUTHORIZATION_HEADER, bearerSessionToken("payerToken"))
-          .body(StringBody(FUND_BODY_TEMPLATE))
-          .check(status().is(200))
-          .check(jsonPath("$.balance").exists()))
-      .exec(http(TRANSFER)
-          .post(ApiEndpoints.TRANSACTION_PAYMENT)
-          .requestTimeout(config.requestTimeoutMs())
-          .header(AUTHORIZATION_HEADER, bearerSessionToken("payerToken"))
-          .body(StringBody(PAYMENT_BODY_TEMPLATE))
-          .check(status().is(200))
-          .check(jsonPath("$.transactionId").exists())
-          .check(jsonPath("$.status").is("SUCCESS")))
-      .exec(http(PAYER_BALANCE)
-          .get(ApiEndpoints.ACCOUNT_BALANCE)
-          .requestTimeout(config.requestTimeoutMs())
-          .header(AUTHORIZATION_HEADER, bearerSessionToken("payerToken"))
-          .check(status().is(200))
-          .check(jsonPath("$.balance").exists()))
-      .exec(http(PAYER_TRANSACTIONS)
-          .get(ApiEndpoints.TRANSACTION_HISTORY)
-          .requestTimeout(config.requestTimeoutMs())
-          .header(AUTHORIZATION_HEADER, bearerSessionToken("payerToken"))
-          .check(status().is(200)));
-
-  private final ScenarioBuilder paymentScenario = scenario("Payment Flow Scenario")
-      .exec(paymentJourney);
+  private final Journey journey = new PaymentJourney(config);
 
-  private final PopulationBuilder population = paymentScenario.injectOpen(
-      LoadProfile.userInjection(config.profile(), config.loadScale()));
+  private final List<PopulationBuilder> populations = BaseSimulation.populations(config, journey, 1.0);
 
   {
-    setUp(population)
+    setUp(populations)
         .protocols(BaseSimulation.httpProtocol(config))
-        .assertions(
-            global().failedRequests().percent().lte(LoadProfile.maxErrorRatePercent(config.profile())),
-            global().responseTime().percentile3().lte(LoadProfile.p95Ms(config.profile())),
-            details(TRANSFER).failedRequests().percent().is(0.0),
-            details(TRANSFER).responseTime().percentile3().lte(LoadProfile.p95Ms(config.profile())),
-            details(PAYER_BALANCE).failedRequests().percent().is(0.0)
-        );
+        .assertions(BaseSimulation.sloAssertions(config, journey.gatedRequests()));
+  }
+
+  @Override
+  public void before() {
+    BaseSimulation.startRun(config, getClass(), BaseSimulation.phases(config, journey));
+  }
+
+  @Override
+  public void after() {
+    BaseSimulation.finishRun();
   }
 }
@@ -0,0 +1,184 @@
+package com.example.fintech.perf.simulation;
+
+import com.example.fintech.perf.config.PaymentLoopSettings;
+import com.example.fintech.perf.config.PerfConfig;
+import com.example.fintech.perf.constants.ApiEndpoints;
+import com.example.fintech.perf.data.AccountPool;
+import com.example.fintech.perf.data.AccountPoolFeeder;
+import com.example.fintech.perf.data.PooledAccount;
+import com.example.fintech.perf.util.BodyTemplate;
+import com.example.fintech.perf.util.Users;
+import io.gatling.javaapi.core.ChainBuilder;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static io.gatling.javaapi.core.CoreDsl.StringBody;
+import static io.gatling.javaapi.core.CoreDsl.during;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.feed;
+import static io.gatling.javaapi.core.CoreDsl.jsonPath;
+import static io.gatling.javaapi.core.CoreDsl.pace;
+import static io.gatling.javaapi.core.CoreDsl.repeat;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+import static com.example.fintech.perf.constants.HttpConstants.AUTHORIZATION_HEADER;
+import static com.example.fintech.perf.constants.HttpConstants.bearerSessionToken;
+import static com.example.fintech.perf.constants.RequestBodyTemplates.auth;
+import static com.example.fintech.perf.constants.RequestBodyTemplates.fundAmount;
+import static com.example.fintech.perf.constants.RequestBodyTemplates.payment;
+import static com.example.fintech.perf.constants.RequestNames.Payment.PAYER_BALANCE;
+import static com.example.fintech.perf.constants.RequestNames.Payment.PAYER_FUND;
+import static com.example.fintech.perf.constants.RequestNames.Payment.PAYER_LOGIN;
+import static com.example.fintech.perf.constants.RequestNames.Payment.PAYER_REGISTER;
+import static com.example.fintech.perf.constants.RequestNames.Payment.PAYER_TRANSACTIONS;
+import static com.example.fintech.perf.constants.RequestNames.Payment.PAYEE_REGISTER;
+import static com.example.fintech.perf.constants.RequestNames.Payment.TRANSFER;
+import static com.example.fintech.perf.constants.TestDataConstants.DEFAULT_FUND_AMOUNT;
+import static com.example.fintech.perf.constants.TestDataConstants.DEFAULT_PAYMENT_AMOUNT;
+import static com.example.fintech.perf.constants.TestDataConstants.DEFAULT_PASSWORD;
+import static com.example.fintech.perf.constants.TestDataConstants.OPEN_ENDED_FUND_AMOUNT;
+
+final class PaymentJourney implements Journey {
+
+  private static final BodyTemplate PAYER_AUTH_BODY_TEMPLATE = BodyTemplate.compile(auth("payerUsername", "password"));
+  private static final BodyTemplate PAYEE_AUTH_BODY_TEMPLATE = BodyTemplate.compile(auth("payeeUsername", "password"));
+  private static final BodyTemplate PAYMENT_BODY_TEMPLATE =
+      BodyTemplate.compile(payment("payerAccountId", "payeeAccountId", DEFAULT_PAYMENT_AMOUNT));
+
+  private final PaymentLoopSettings loop;
+  private final boolean pooled;
+  private final ChainBuilder paymentJourney;
+
+  PaymentJourney(PerfConfig config) {
+    this.loop = config.paymentLoop();
+    Validation validation = new Validation(config.validation());
+    Pacing pacing = new Pacing(config);
+    this.pooled = config.accountPool().pooled();
+    List<PooledAccount> pooledAccounts = pooled
+        ? AccountPool.load(config.accountPool().file(), config.apiBaseUrl())
+        : List.of();
+
+    PayerTokens tokens = PayerTokens.perUser(loop.tokenTtlSeconds());
+    ChainBuilder payerLogin = tokens.login(pacing.request(PAYER_LOGIN, http(PAYER_LOGIN)
+        .post(ApiEndpoints.AUTH_LOGIN)
+        .requestTimeout(config.requestTimeoutMs())
+        .body(StringBody(PAYER_AUTH_BODY_TEMPLATE::render))
+        .check(status().is(200))
+        .check(validation.save("token", PayerTokens.TOKEN))));
+
+    ChainBuilder registeredPayer = exec(session -> session
+        .set("payerUsername", Users.username("perf_payer"))
+        .set("payeeUsername", Users.username("perf_payee"))
+        .set("password", DEFAULT_PASSWORD))
+        .exec(pacing.request(PAYER_REGISTER, http(PAYER_REGISTER)
+            .post(ApiEndpoints.AUTH_REGISTER)
+            .requestTimeout(config.requestTimeoutMs())
+            .body(StringBody(PAYER_AUTH_BODY_TEMPLATE::render))
+            .check(status().in(200, 201))
+            .check(validation.save("id", "payerAccountId"))))
+        .exec(pacing.request(PAYEE_REGISTER, http(PAYEE_REGISTER)
+            .post(ApiEndpoints.AUTH_REGISTER)
+            .requestTimeout(config.requestTimeoutMs())
+            .body(StringBody(PAYEE_AUTH_BODY_TEMPLATE::render))
+            .check(status().in(200, 201))
+            .check(validation.save("id", "payeeAccountId"))))
+        .exec(payerLogin)
+        .exec(session -> session.set("accountId", session.getString("payerAccountId")))
+        .exec(pacing.request(PAYER_FUND, validation.checkBody(http(PAYER_FUND)
+            .post(ApiEndpoints.ACCOUNT_FUND)
+            .requestTimeout(config.requestTimeoutMs())
+            .header(AUTHORIZATION_HEADER, bearerSessionToken("payerToken"))
+            .body(StringBody(fundAmount(payerFundAmount(loop))))
+            .check(status().is(200)),
+            jsonPath("$.balance").exists())));
+
+    ChainBuilder pooledPayer = feed(
+        AccountPoolFeeder.feeder(pooledAccounts, config.accountPool().strategy(), "payer"))
+        .exec(session -> session
+            .set("payeeAccountId", AccountPoolFeeder.randomPeerAccountId(
+                pooledAccounts, session.getString("payerAccountId")))
+            .set("accountId", session.getString("payerAccountId")))
+        .exec(payerLogin);
+
+    ChainBuilder ensureFreshToken = tokens.ensureFresh(payerLogin);
+    ChainBuilder reloginIfUnauthorized = tokens.reloginIfUnauthorized(payerLogin);
+
+    ChainBuilder transferAndBalance = exec(Measured.stopIfRequested())
+        .exec(ensureFreshToken)
+        .exec(pacing.loopRequest(TRANSFER, validation.checkBody(http(TRANSFER)
+            .post(ApiEndpoints.TRANSACTION_PAYMENT)
+            .requestTimeout(config.requestTimeoutMs())
+            .header(AUTHORIZATION_HEADER, bearerSessionToken("payerToken"))
+            .body(StringBody(PAYMENT_BODY_TEMPLATE::render))
+            .check(status().saveAs(PayerTokens.LAST_STATUS))
+            .check(status().is(200)),
+            jsonPath("$.transactionId").exists(),
+            jsonPath("$.status").is("SUCCESS"))))
+        .exec(reloginIfUnauthorized)
+        .exec(pacing.think())
+        .exec(pacing.loopRequest(PAYER_BALANCE, validation.checkBody(http(PAYER_BALANCE)
+            .get(ApiEndpoints.ACCOUNT_BALANCE)
+            .requestTimeout(config.requestTimeoutMs())
+            .header(AUTHORIZATION_HEADER, bearerSessionToken("payerToken"))
+            .check(status().saveAs(PayerTokens.LAST_STATUS))
+            .check(status().is(200)),
+            jsonPath("$.balance").exists())))
+        .exec(reloginIfUnauthorized);
+
+    // Pacing gives every iteration the same length, so a time-bound loop sends a fixed number of transfers.
+    ChainBuilder iteration = loop.paced()
+        ? pace(Duration.ofMillis(loop.pacingMs())).exec(transferAndBalance)
+        : transferAndBalance;
+    ChainBuilder paymentLoop = loop.timeBound()
+        ? during(Duration.ofSeconds(loop.durationSeconds())).on(iteration)
+        : repeat(loop.iterations()).on(iteration);
+
+    this.paymentJourney = exec(pooled ? pooledPayer : registeredPayer)
+        .exec(pacing.think())
+        .exec(paymentLoop)
+        .exec(pacing.think())
+        .exec(pacing.request(PAYER_TRANSACTIONS, http(PAYER_TRANSACTIONS)
+            .get(ApiEndpoints.TRANSACTION_HISTORY)
+            .requestTimeout(config.requestTimeoutMs())
+            .header(AUTHORIZATION_HEADER, bearerSessionToken("payerToken"))
+            .check(status().is(200))));
+  }
+
+  @Override
+  public String name() {
+    return "Payment Flow";
+  }
+
+  @Override
+  public ChainBuilder chain() {
+    return paymentJourney;
+  }
+
+  @Override
+  public String[] gatedRequests() {
+    return new String[] {TRANSFER, PAYER_BALANCE};
+  }
+
+  @Override
+  public double requestsPerJourney(String requestName) {
+    return switch (requestName) {
+      case PAYER_REGISTER, PAYEE_REGISTER, PAYER_FUND -> pooled ? 0.0 : 1.0;
+      case PAYER_LOGIN, PAYER_TRANSACTIONS -> 1.0;
+      case TRANSFER, PAYER_BALANCE -> loop.iterationsPerJourney();
+      default -> 0.0;
+    };
+  }
+
+  private static String payerFundAmount(PaymentLoopSettings loop) {
+    if (loop.singlePass()) {
+      return DEFAULT_FUND_AMOUNT;
+    }
+    if (loop.timeBound()) {
+      return OPEN_ENDED_FUND_AMOUNT;
+    }
+    BigDecimal required = new BigDecimal(DEFAULT_PAYMENT_AMOUNT).multiply(BigDecimal.valueOf(loop.iterations()));
+    return required.max(new BigDecimal(DEFAULT_FUND_AMOUNT)).toPlainString();
+  }
+}
@@ -0,0 +1,238 @@
+package com.example.fintech.perf.simulation;
+
+import com.example.fintech.perf.config.PerfConfig;
+import com.example.fintech.perf.config.ReplaySettings;
+import com.example.fintech.perf.constants.ApiEndpoints;
+import com.example.fintech.perf.data.AccountPool;
+import com.example.fintech.perf.data.PooledAccount;
+import com.example.fintech.perf.data.ReplayAccountMapper;
+import com.example.fintech.perf.data.ReplayEndpoint;
+import com.example.fintech.perf.data.ReplayLog;
+import com.example.fintech.perf.data.ReplayRecord;
+import com.example.fintech.perf.util.BodyTemplate;
+import com.example.fintech.perf.util.Users;
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.PopulationBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Session;
+import io.gatling.javaapi.core.Simulation;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.gatling.javaapi.core.CoreDsl.StringBody;
+import static io.gatling.javaapi.core.CoreDsl.atOnceUsers;
+import static io.gatling.javaapi.core.CoreDsl.doIf;
+import static io.gatling.javaapi.core.CoreDsl.doSwitch;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.onCase;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+import static com.example.fintech.perf.constants.HttpConstants.AUTHORIZATION_HEADER;
+import static com.example.fintech.perf.constants.HttpConstants.bearerSessionToken;
+import static com.example.fintech.perf.constants.RequestBodyTemplates.AUTH_BODY_TEMPLATE;
+import static com.example.fintech.perf.constants.RequestBodyTemplates.auth;
+import static com.example.fintech.perf.constants.RequestBodyTemplates.fundAmount;
+import static com.example.fintech.perf.constants.RequestBodyTemplates.payment;
+import static com.example.fintech.perf.constants.RequestNames.Replay.BALANCE;
+import static com.example.fintech.perf.constants.RequestNames.Replay.FUND;
+import static com.example.fintech.perf.constants.RequestNames.Replay.LOGIN;
+import static com.example.fintech.perf.constants.RequestNames.Replay.REGISTER;
+import static com.example.fintech.perf.constants.RequestNames.Replay.TRANSACTIONS;
+import static com.example.fintech.perf.constants.RequestNames.Replay.TRANSFER;
+import static com.example.fintech.perf.constants.TestDataConstants.DEFAULT_FUND_AMOUNT;
+import static com.example.fintech.perf.constants.TestDataConstants.DEFAULT_PAYMENT_AMOUNT;
+
+public class ReplaySimulation extends Simulation {
+
+  private static final BodyTemplate REGISTER_BODY_TEMPLATE = BodyTemplate.compile(auth("registerUsername", "password"));
+  private static final BodyTemplate PAYMENT_BODY_TEMPLATE =
+      BodyTemplate.compile(payment("accountId", "toAccountId", "#{amount}"));
+  private static final BodyTemplate FUND_BODY_TEMPLATE = BodyTemplate.compile(fundAmount("#{amount}"));
+
+  private static final String DONE = "replayDone";
+  private static final String ENDPOINT = "replayEndpoint";
+  private static final String SCHEDULED_AT = "replayScheduledAtMs";
+  private static final String LAST_STATUS = "lastStatus";
+  private static final int UNAUTHORIZED = 401;
+
+  private final PerfConfig config = PerfConfig.load();
+  private final Validation validation = new Validation(config.validation());
+  private final ReplaySettings replay = config.replay();
+  private final ReplayAccountMapper accounts = new ReplayAccountMapper(AccountPool.load(config.accountPool().file(), config.apiBaseUrl()));
+  private final ReplayLog log = ReplayLog.open(replay.file(), config.injector().index(), config.injector().count());
+  private final Map<String, String> tokens = new ConcurrentHashMap<>();
+
+  private final LongAdder replayed = new LongAdder();
+  private final LongAdder late = new LongAdder();
+  private final LongAccumulator maxLagMs = new LongAccumulator(Math::max, 0);
+  private volatile long firstRecordedAtMs;
+  private volatile long replayStartMs;
+
+  private final ChainBuilder forgetTokenIfUnauthorized = doIf(session ->
+      Integer.valueOf(UNAUTHORIZED).equals(session.get(LAST_STATUS)))
+      .then(exec(session -> {
+        tokens.remove(session.getString("accountId"));
+        return session;
+      }));
+
+  private final ChainBuilder login = exec(session -> session.remove("token"))
+      .exec(Measured.request(LOGIN, http(LOGIN)
+          .post(ApiEndpoints.AUTH_LOGIN)
+          .requestTimeout(config.requestTimeoutMs())
+          .body(StringBody(AUTH_BODY_TEMPLATE::render))
+          .check(status().is(200))
+          .check(validation.save("token", "token"))))
+      .exec(session -> {
+        if (session.contains("token")) {
+          tokens.put(session.getString("accountId"), session.getString("token"));
+        }
+        return session;
+      });
+
+  // Tokens are cached per seeded account so replayed reads and writes do not each cost a login.
+  private final ChainBuilder authenticated = exec(session -> {
+    String token = tokens.get(session.getString("accountId"));
+    return token == null ? session.remove("token") : session.set("token", token);
+  })
+      .exec(doIf(session -> !session.contains("token")).then(login));
+
+  private final ChainBuilder register = exec(session -> session.set("registerUsername", Users.username("perf_replay")))
+      .exec(Measured.request(REGISTER, http(REGISTER)
+          .post(ApiEndpoints.AUTH_REGISTER)
+          .requestTimeout(config.requestTimeoutMs())
+          .body(StringBody(REGISTER_BODY_TEMPLATE::render))
+          .check(status().in(200, 201))));
+
+  private final ChainBuilder balance = exec(authenticated)
+      .exec(Measured.request(BALANCE, http(BALANCE)
+          .get(ApiEndpoints.ACCOUNT_BALANCE)
+          .requestTimeout(config.requestTimeoutMs())
+          .header(AUTHORIZATION_HEADER, bearerSessionToken("token"))
+          .check(status().saveAs(LAST_STATUS))
+          .check(status().is(200))))
+      .exec(forgetTokenIfUnauthorized);
+
+  private final ChainBuilder fund = exec(authenticated)
+      .exec(Measured.request(FUND, http(FUND)
+          .post(ApiEndpoints.ACCOUNT_FUND)
+          .requestTimeout(config.requestTimeoutMs())
+          .header(AUTHORIZATION_HEADER, bearerSessionToken("token"))
+          .body(StringBody(FUND_BODY_TEMPLATE::render))
+          .check(status().saveAs(LAST_STATUS))
+          .check(status().is(200))))
+      .exec(forgetTokenIfUnauthorized);
+
+  private final ChainBuilder transfer = exec(authenticated)
+      .exec(Measured.request(TRANSFER, http(TRANSFER)
+          .post(ApiEndpoints.TRANSACTION_PAYMENT)
+          .requestTimeout(config.requestTimeoutMs())
+          .header(AUTHORIZATION_HEADER, bearerSessionToken("token"))
+          .body(StringBody(PAYMENT_BODY_TEMPLATE::render))
+          .check(status().saveAs(LAST_STATUS))
+          .check(status().is(200))))
+      .exec(forgetTokenIfUnauthorized);
+
+  private final ChainBuilder transactions = exec(authenticated)
+      .exec(Measured.request(TRANSACTIONS, http(TRANSACTIONS)
+          .get(ApiEndpoints.TRANSACTION_HISTORY)
+          .requestTimeout(config.requestTimeoutMs())
+          .header(AUTHORIZATION_HEADER, bearerSessionToken("token"))
+          .check(status().saveAs(LAST_STATUS))
+          .check(status().is(200))))
+      .exec(forgetTokenIfUnauthorized);
+
+  private final ChainBuilder replayRecord = exec(Measured.stopIfRequested())
+      .pause(session -> Duration.ofMillis(Math.max(0, session.getLong(SCHEDULED_AT) - System.currentTimeMillis())))
+      .exec(this::trackLag)
+      .exec(doSwitch("#{" + ENDPOINT + "}").on(
+          onCase(ReplayEndpoint.AUTH_REGISTER.name()).then(register),
+          onCase(ReplayEndpoint.AUTH_LOGIN.name()).then(login),
+          onCase(ReplayEndpoint.ACCOUNT_BALANCE.name()).then(balance),
+          onCase(ReplayEndpoint.ACCOUNT_FUND.name()).then(fund),
+          onCase(ReplayEndpoint.TRANSACTION_PAYMENT.name()).then(transfer),
+          onCase(ReplayEndpoint.TRANSACTION_HISTORY.name()).then(transactions)))
+      .exec(this::pullRecord);
+
+  // A fixed set of lanes pulls records in log order and waits for each record's scheduled send time.
+  private final ScenarioBuilder replayScenario = scenario("Traffic Replay Scenario")
+      .exec(this::pullRecord)
+      .asLongAs(session -> !session.getBoolean(DONE)).on(replayRecord);
+
+  private final PopulationBuilder population = replayScenario.injectOpen(atOnceUsers(replay.concurrency()));
+
+  {
+    setUp(population)
+        .protocols(BaseSimulation.httpProtocol(config))
+        .assertions(BaseSimulation.sloAssertions(config, REGISTER, LOGIN, FUND, BALANCE, TRANSFER, TRANSACTIONS));
+  }
+
+  @Override
+  public void before() {
+    // Lanes start together and then follow the recorded timeline, which the injection profile does not describe.
+    BaseSimulation.startRun(config, getClass(), List.of());
+    System.out.printf("Replaying %s at %sx with %d lanes%n",
+        replay.file().toAbsolutePath(), replay.speedup(), replay.concurrency());
+  }
+
+  @Override
+  public void after() {
+    log.close();
+    System.out.printf("Replayed %d records onto %d seeded accounts; %d sent more than %dms late (max lag %dms)%n",
+        replayed.sum(), accounts.mappedAccounts(), late.sum(), replay.lateThresholdMs(), maxLagMs.get());
+    BaseSimulation.finishRun();
+  }
+
+  private Session pullRecord(Session session) {
+    ReplayRecord record = log.next();
+    if (record == null) {
+      return session.set(DONE, true);
+    }
+
+    PooledAccount account = accounts.map(record.accountId());
+    PooledAccount peer = record.endpoint() == ReplayEndpoint.TRANSACTION_PAYMENT
+        ? accounts.mapPeer(record.toAccountId(), account)
+        : account;
+    return session
+        .set(DONE, false)
+        .set(ENDPOINT, record.endpoint().name())
+        .set(SCHEDULED_AT, scheduledAtMs(record.timestampMs()))
+        .set("accountId", account.accountId())
+        .set("username", account.username())
+        .set("password", account.password())
+        .set("toAccountId", peer.accountId())
+        .set("amount", record.amount() != null ? record.amount() : defaultAmount(record.endpoint()));
+  }
+
+  private Session trackLag(Session session) {
+    long lagMs = System.currentTimeMillis() - session.getLong(SCHEDULED_AT);
+    replayed.increment();
+    maxLagMs.accumulate(lagMs);
+    if (lagMs > replay.lateThresholdMs()) {
+      late.increment();
+    }
+    return session;
+  }
+
+  // Injectors share the log's time origin and, when the coordinator sets replay.startAtMs, one start instant.
+  private long scheduledAtMs(long recordedAtMs) {
+    if (replayStartMs == 0) {
+      synchronized (this) {
+        if (replayStartMs == 0) {
+          firstRecordedAtMs = log.firstTimestampMs();
+          replayStartMs = replay.startAtMs() > 0 ? replay.startAtMs() : System.currentTimeMillis();
+        }
+      }
+    }
+    return replayStartMs + (long) ((recordedAtMs - firstRecordedAtMs) / replay.speedup());
+  }
+
+  private static String defaultAmount(ReplayEndpoint endpoint) {
+    return endpoint == ReplayEndpoint.ACCOUNT_FUND ? DEFAULT_FUND_AMOUNT : DEFAULT_PAYMENT_AMOUNT;
+  }
+}
@@ -0,0 +1,42 @@
+package com.example.fintech.perf.simulation;
+
+import com.example.fintech.perf.config.ValidationLevel;
+import com.example.fintech.perf.config.ValidationSettings;
+import io.gatling.javaapi.core.CheckBuilder;
+import io.gatling.javaapi.http.HttpRequestActionBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static io.gatling.javaapi.core.CoreDsl.jsonPath;
+import static io.gatling.javaapi.core.CoreDsl.regex;
+
+final class Validation {
+
+  private final ValidationSettings settings;
+
+  Validation(ValidationSettings settings) {
+    this.settings = settings;
+  }
+
+  // Saves a top-level string or number field. Below full validation it is read with a regex over the raw body,
+  // so the response is never parsed as JSON; the regex takes the first occurrence of the field at any depth.
+  CheckBuilder save(String field, String sessionKey) {
+    if (settings.level() == ValidationLevel.FULL) {
+      return jsonPath("$." + field).saveAs(sessionKey);
+    }
+    return regex("\"" + field + "\"\\s*:\\s*\"?([^\",}\\s]+)").saveAs(sessionKey);
+  }
+
+  // Status checks stay on the request itself; only response body assertions go through here.
+  HttpRequestActionBuilder checkBody(HttpRequestActionBuilder request, CheckBuilder... bodyChecks) {
+    return switch (settings.level()) {
+      case FULL -> request.check(bodyChecks);
+      case SAMPLED -> request.checkIf(session -> sampled()).then(bodyChecks);
+      case STATUS_ONLY -> request;
+    };
+  }
+
+  private boolean sampled() {
+    return ThreadLocalRandom.current().nextDouble(100.0) < settings.samplePercent();
+  }
+}
@@ -0,0 +1,285 @@
+package com.example.fintech.perf.stub;
+
+import com.example.fintech.perf.config.PerfConfig;
+import com.example.fintech.perf.config.StubSettings;
+import com.example.fintech.perf.constants.ApiEndpoints;
+import com.example.fintech.perf.constants.HttpConstants;
+import com.example.fintech.perf.data.AccountPool;
+import com.example.fintech.perf.data.PooledAccount;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public final class StubBackend implements AutoCloseable {
+
+  private static final int BACKLOG = 4_096;
+  private static final Pattern ACCOUNT_FUND = routePattern(ApiEndpoints.ACCOUNT_FUND);
+  private static final Pattern ACCOUNT_BALANCE = routePattern(ApiEndpoints.ACCOUNT_BALANCE);
+  private static final Pattern TRANSACTION_HISTORY = routePattern(ApiEndpoints.TRANSACTION_HISTORY);
+  private static final Map<String, Pattern> FIELD_PATTERNS = new ConcurrentHashMap<>();
+
+  private final StubSettings settings;
+  private final StubLedger ledger = new StubLedger();
+  private final HttpServer server;
+  private final ExecutorService executor;
+
+  private StubBackend(StubSettings settings) {
+    this.settings = settings;
+    try {
+      this.server = HttpServer.create(new InetSocketAddress(settings.port()), BACKLOG);
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to bind stub backend on port " + settings.port(), exception);
+    }
+    this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    server.setExecutor(executor);
+    server.createContext("/", this::handle);
+  }
+
+  public static StubBackend start(PerfConfig config) {
+    StubBackend backend = new StubBackend(config.stub());
+    // Pool-backed and replayed runs both log in as pool accounts, so seed from any pool seeded against the stub.
+    Path poolFile = config.accountPool().file();
+    String stubUrl = config.stub().baseUrl();
+    if (AccountPool.seededAgainst(poolFile, stubUrl) && AccountPool.count(poolFile, stubUrl) > 0) {
+      backend.seed(AccountPool.load(poolFile, stubUrl), new BigDecimal(config.accountPool().fundAmount()));
+    }
+    backend.server.start();
+    System.out.printf("Stub backend listening on %s (latency=%dms+%dms jitter, errors=%s%%)%n",
+        config.stub().baseUrl(), config.stub().latencyMs(), config.stub().latencyJitterMs(),
+        config.stub().errorRatePercent());
+    return backend;
+  }
+
+  public static void main(String[] args) throws InterruptedException {
+    StubBackend backend = start(PerfConfig.load());
+    Runtime.getRuntime().addShutdownHook(new Thread(backend::close));
+    Thread.currentThread().join();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private void seed(List<PooledAccount> accounts, BigDecimal fundAmount) {
+    for (PooledAccount account : accounts) {
+      if (ledger.register(account.accountId(), account.username(), account.password()) != null) {
+        ledger.account(account.accountId()).fund(fundAmount);
+      }
+    }
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      injectLatency();
+      if (ThreadLocalRandom.current().nextDouble(100.0) < settings.errorRatePercent()) {
+        respond(exchange, 500, "{\"error\":\"injected failure\"}");
+        return;
+      }
+      route(exchange);
+    } catch (RuntimeException exception) {
+      respond(exchange, 500, "{\"error\":\"" + exception.getClass().getSimpleName() + "\"}");
+    }
+  }
+
+  private void route(HttpExchange exchange) throws IOException {
+    String method = exchange.getRequestMethod();
+    String path = exchange.getRequestURI().getPath();
+
+    if ("GET".equals(method) && "/actuator/health".equals(path)) {
+      respond(exchange, 200, "{\"status\":\"UP\"}");
+    } else if ("POST".equals(method) && ApiEndpoints.AUTH_REGISTER.equals(path)) {
+      register(exchange);
+    } else if ("POST".equals(method) && ApiEndpoints.AUTH_LOGIN.equals(path)) {
+      login(exchange);
+    } else if ("POST".equals(method) && ApiEndpoints.TRANSACTION_PAYMENT.equals(path)) {
+      payment(exchange);
+    } else if (!authorized(exchange)) {
+      respond(exchange, 401, "{\"error\":\"unauthorized\"}");
+    } else {
+      routeAccount(exchange, method, path);
+    }
+  }
+
+  private void routeAccount(HttpExchange exchange, String method, String path) throws IOException {
+    Matcher fund = ACCOUNT_FUND.matcher(path);
+    Matcher balance = ACCOUNT_BALANCE.matcher(path);
+    Matcher history = TRANSACTION_HISTORY.matcher(path);
+
+    if ("POST".equals(method) && fund.matches()) {
+      StubLedger.Account account = ledger.account(fund.group(1));
+      BigDecimal amount = decimalField(readBody(exchange), "amount");
+      if (account == null || amount == null || amount.signum() <= 0) {
+        respond(exchange, account == null ? 404 : 400, "{\"error\":\"invalid funding\"}");
+        return;
+      }
+      respond(exchange, 200, balanceJson(account.id(), account.fund(amount)));
+    } else if ("GET".equals(method) && balance.matches()) {
+      StubLedger.Account account = ledger.account(balance.group(1));
+      if (account == null) {
+        respond(exchange, 404, "{\"error\":\"account not found\"}");
+        return;
+      }
+      respond(exchange, 200, balanceJson(account.id(), account.balance()));
+    } else if ("GET".equals(method) && history.matches()) {
+      StubLedger.Account account = ledger.account(history.group(1));
+      if (account == null) {
+        respond(exchange, 404, "{\"error\":\"account not found\"}");
+        return;
+      }
+      respond(exchange, 200, account.transactions().stream()
+          .map(StubBackend::transactionJson)
+          .collect(Collectors.joining(",", "[", "]")));
+    } else {
+      respond(exchange, 404, "{\"error\":\"not found\"}");
+    }
+  }
+
+  private void register(HttpExchange exchange) throws IOException {
+    String body = readBody(exchange);
+    String username = stringField(body, "username");
+    String password = stringField(body, "password");
+    if (username == null || password == null) {
+      respond(exchange, 400, "{\"error\":\"username and password are required\"}");
+      return;
+    }
+
+    StubLedger.User user = ledger.register(username, password);
+    if (user == null) {
+      respond(exchange, 409, "{\"error\":\"username taken\"}");
+      return;
+    }
+    respond(exchange, 201, "{\"id\":\"" + user.accountId() + "\",\"username\":\"" + username + "\"}");
+  }
+
+  private void login(HttpExchange exchange) throws IOException {
+    String body = readBody(exchange);
+    String username = stringField(body, "username");
+    String token = ledger.login(username, stringField(body, "password"));
+    if (token == null) {
+      respond(exchange, 401, "{\"error\":\"invalid credentials\"}");
+      return;
+    }
+    respond(exchange, 200, "{\"token\":\"" + token + "\",\"userId\":\"" + ledger.userIdForToken(token) + "\"}");
+  }
+
+  private void payment(HttpExchange exchange) throws IOException {
+    String callerAccountId = tokenAccountId(exchange);
+    if (callerAccountId == null) {
+      respond(exchange, 401, "{\"error\":\"unauthorized\"}");
+      return;
+    }
+
+    String body = readBody(exchange);
+    String fromAccountId = stringField(body, "fromAccountId");
+    // Like the real backend, a token only pays from its own account.
+    if (!callerAccountId.equals(fromAccountId)) {
+      respond(exchange, 403, "{\"error\":\"forbidden\"}");
+      return;
+    }
+    BigDecimal amount = decimalField(body, "amount");
+    StubLedger.Transaction transaction = amount == null
+        ? null
+        : ledger.transfer(fromAccountId, stringField(body, "toAccountId"), amount);
+    if (transaction == null) {
+      respond(exchange, 400, "{\"status\":\"FAILED\"}");
+      return;
+    }
+    respond(exchange, 200, "{\"transactionId\":\"" + transaction.id() + "\",\"status\":\"SUCCESS\"}");
+  }
+
+  private boolean authorized(HttpExchange exchange) {
+    return tokenAccountId(exchange) != null;
+  }
+
+  private String tokenAccountId(HttpExchange exchange) {
+    String header = exchange.getRequestHeaders().getFirst(HttpConstants.AUTHORIZATION_HEADER);
+    if (header == null || !header.startsWith(HttpConstants.BEARER_PREFIX)) {
+      return null;
+    }
+    return ledger.userIdForToken(header.substring(HttpConstants.BEARER_PREFIX.length()));
+  }
+
+  private void injectLatency() {
+    int jitter = settings.latencyJitterMs() == 0 ? 0 : ThreadLocalRandom.current().nextInt(settings.latencyJitterMs() + 1);
+    int delayMs = settings.latencyMs() + jitter;
+    if (delayMs == 0) {
+      return;
+    }
+    try {
+      Thread.sleep(delayMs);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  // Routes come from the same endpoint constants the simulations send to; each #{...} matches one path segment.
+  private static Pattern routePattern(String endpoint) {
+    return Pattern.compile(Arrays.stream(endpoint.split("#\\{\\w+}", -1))
+        .map(Pattern::quote)
+        .collect(Collectors.joining("([^/]+)", "^", "$")));
+  }
+
+  private static String balanceJson(String accountId, BigDecimal balance) {
+    return "{\"accountId\":\"" + accountId + "\",\"balance\":" + balance.toPlainString() + "}";
+  }
+
+  private static String transactionJson(StubLedger.Transaction transaction) {
+    return "{\"transactionId\":\"" + transaction.id() + "\""
+        + ",\"fromAccountId\":\"" + transaction.fromAccountId() + "\""
+        + ",\"toAccountId\":\"" + transaction.toAccountId() + "\""
+        + ",\"amount\":" + transaction.amount().toPlainString()
+        + ",\"timestamp\":" + transaction.timestampMs()
+        + ",\"status\":\"SUCCESS\"}";
+  }
+
+  private static String readBody(HttpExchange exchange) throws IOException {
+    try (InputStream input = exchange.getRequestBody()) {
+      return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  private static String stringField(String json, String field) {
+    Pattern pattern = FIELD_PATTERNS.computeIfAbsent(field,
+        name -> Pattern.compile("\"" + name + "\"\\s*:\\s*\"?([^\",}]*)\"?"));
+    Matcher matcher = pattern.matcher(json);
+    return matcher.find() ? matcher.group(1).trim() : null;
+  }
+
+  private static BigDecimal decimalField(String json, String field) {
+    String value = stringField(json, field);
+    try {
+      return value == null ? null : new BigDecimal(value);
+    } catch (NumberFormatException exception) {
+      return null;
+    }
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream output = exchange.getResponseBody()) {
+      output.write(bytes);
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package com.example.fintech.perf.stub;
+
+import com.example.fintech.perf.util.UniqueIds;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class StubLedger {
+
+  private final Map<String, User> usersByName = new ConcurrentHashMap<>();
+  private final Map<String, Account> accounts = new ConcurrentHashMap<>();
+  private final Map<String, String> accountIdsByToken = new ConcurrentHashMap<>();
+  private final Map<String, String> tokensByAccountId = new ConcurrentHashMap<>();
+
+  User register(String username, String password) {
+    return register(UniqueIds.uuid(), username, password);
+  }
+
+  User register(String accountId, String username, String password) {
+    User user = new User(accountId, username, password);
+    if (usersByName.putIfAbsent(username, user) != null) {
+      return null;
+    }
+    accounts.put(accountId, new Account(accountId));
+    return user;
+  }
+
+  String login(String username, String password) {
+    User user = usersByName.get(username);
+    if (user == null || !user.password().equals(password)) {
+      return null;
+    }
+    // One token per account keeps the token map bounded however often pooled accounts log in.
+    return tokensByAccountId.computeIfAbsent(user.accountId(), accountId -> {
+      String token = UniqueIds.uuid();
+      accountIdsByToken.put(token, accountId);
+      return token;
+    });
+  }
+
+  String userIdForToken(String token) {
+    return token == null ? null : accountIdsByToken.get(token);
+  }
+
+  Account account(String accountId) {
+    return accounts.get(accountId);
+  }
+
+  Transaction transfer(String fromAccountId, String toAccountId, BigDecimal amount) {
+    Account from = accounts.get(fromAccountId);
+    Account to = accounts.get(toAccountId);
+    if (from == null || to == null || from == to || amount.signum() <= 0) {
+      return null;
+    }
+
+    // Lock in a stable order so concurrent opposite transfers cannot deadlock.
+    Account first = fromAccountId.compareTo(toAccountId) < 0 ? from : to;
+    Account second = first == from ? to : from;
+    synchronized (first) {
+      synchronized (second) {
+        if (from.balance.compareTo(amount) < 0) {
+          return null;
+        }
+        from.balance = from.balance.subtract(amount);
+        to.balance = to.balance.add(amount);
+        Transaction transaction = new Transaction(
+            UniqueIds.uuid(), fromAccountId, toAccountId, amount, System.currentTimeMillis());
+        from.transactions.add(transaction);
+        to.transactions.add(transaction);
+        return transaction;
+      }
+    }
+  }
+
+  record User(String accountId, String username, String password) {
+  }
+
+  record Transaction(String id, String fromAccountId, String toAccountId, BigDecimal amount, long timestampMs) {
+  }
+
+  static final class Account {
+    private final String id;
+    private final List<Transaction> transactions = new ArrayList<>();
+    private BigDecimal balance = BigDecimal.ZERO;
+
+    private Account(String id) {
+      this.id = id;
+    }
+
+    String id() {
+      return id;
+    }
+
+    synchronized BigDecimal fund(BigDecimal amount) {
+      balance = balance.add(amount);
+      return balance;
+    }
+
+    synchronized BigDecimal balance() {
+      return balance;
+    }
+
+    synchronized List<Transaction> transactions() {
+      return List.copyOf(transactions);
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.example.fintech.perf.util;
+
+import io.gatling.javaapi.core.Session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+public final class BodyTemplate {
+
+  private static final String OPEN = "#{";
+  private static final String CLOSE = "}";
+  private static final Pattern ATTRIBUTE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+  // Headroom for the substituted values, so rendering an id or a token does not grow the builder.
+  private static final int VALUE_CAPACITY = 48;
+
+  private final String[] literals;
+  private final String[] attributes;
+  private final int capacity;
+
+  private BodyTemplate(String[] literals, String[] attributes) {
+    this.literals = literals;
+    this.attributes = attributes;
+    int literalLength = 0;
+    for (String literal : literals) {
+      literalLength += literal.length();
+    }
+    this.capacity = literalLength + attributes.length * VALUE_CAPACITY;
+  }
+
+  // Splits a Gatling EL string once, so each request only appends literals and session values.
+  public static BodyTemplate compile(String expression) {
+    List<String> literals = new ArrayList<>();
+    List<String> attributes = new ArrayList<>();
+    int position = 0;
+    int open = expression.indexOf(OPEN);
+    while (open >= 0) {
+      int close = expression.indexOf(CLOSE, open + OPEN.length());
+      if (close < 0) {
+        throw new IllegalArgumentException("Unterminated #{ in body template: " + expression);
+      }
+      String attribute = expression.substring(open + OPEN.length(), close);
+      if (!ATTRIBUTE_NAME.matcher(attribute).matches()) {
+        throw new IllegalArgumentException(
+            "Body templates only support plain session attributes, not #{" + attribute + "}: " + expression);
+      }
+      literals.add(expression.substring(position, open));
+      attributes.add(attribute);
+      position = close + CLOSE.length();
+      open = expression.indexOf(OPEN, position);
+    }
+    literals.add(expression.substring(position));
+    return new BodyTemplate(literals.toArray(String[]::new), attributes.toArray(String[]::new));
+  }
+
+  public String render(Session session) {
+    return render(session::get);
+  }
+
+  public String render(Function<String, ?> values) {
+    if (attributes.length == 0) {
+      return literals[0];
+    }
+
+    StringBuilder body = new StringBuilder(capacity);
+    for (int index = 0; index < attributes.length; index++) {
+      Object value = values.apply(attributes[index]);
+      if (value == null) {
+        throw new IllegalStateException("No attribute named '" + attributes[index] + "' for the request body");
+      }
+      body.append(literals[index]).append(value);
+    }
+    return body.append(literals[attributes.length]).toString();
+  }
+}
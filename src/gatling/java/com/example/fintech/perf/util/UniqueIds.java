@@ -0,0 +1,25 @@
+package com.example.fintech.perf.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class UniqueIds {
+
+  private static final long VERSION_MASK = 0xF000L;
+  private static final long VERSION_4 = 0x4000L;
+  private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+  private static final long IETF_VARIANT = 0x8000000000000000L;
+
+  private UniqueIds() {
+    // utility class
+  }
+
+  // UUID.randomUUID() draws from one SecureRandom shared by every thread; ThreadLocalRandom needs no lock and no
+  // entropy source. The ids are not secret, only unique, and keep the random UUID format the backend accepts.
+  public static String uuid() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long mostSignificant = (random.nextLong() & ~VERSION_MASK) | VERSION_4;
+    long leastSignificant = (random.nextLong() & VARIANT_MASK) | IETF_VARIANT;
+    return new UUID(mostSignificant, leastSignificant).toString();
+  }
+}
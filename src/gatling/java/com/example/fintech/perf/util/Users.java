@@ -1,14 +1,21 @@
 package com.example.fintech.perf.util;
 
-import java.util.UUID;
-
 public final class Users {
 
+  private static volatile String namespace = "";
+
   private Users() {
     // utility class
   }
 
+  public static void useNamespace(String injectorNamespace) {
+    namespace = injectorNamespace == null ? "" : injectorNamespace;
+  }
+
   public static String username(String prefix) {
-    return prefix + "_" + UUID.randomUUID();
+    String current = namespace;
+    return current.isEmpty()
+        ? prefix + "_" + UniqueIds.uuid()
+        : prefix + "_" + current + "_" + UniqueIds.uuid();
   }
 }
@@ -0,0 +1,26 @@
+package com.example.fintech.perf.bench;
+
+import com.example.fintech.perf.config.PerfConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PerfConfigBenchmark {
+
+  // Simulations load the configuration once per class, so this bounds start-up, not per-user cost.
+  @Benchmark
+  @Fork(1)
+  public PerfConfig load() {
+    return PerfConfig.load();
+  }
+}
@@ -0,0 +1,72 @@
+package com.example.fintech.perf.bench;
+
+import com.example.fintech.perf.constants.HttpConstants;
+import com.example.fintech.perf.constants.RequestBodyTemplates;
+import com.example.fintech.perf.util.BodyTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.fintech.perf.constants.TestDataConstants.DEFAULT_PAYMENT_AMOUNT;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RequestTemplateBenchmark {
+
+  private static final String PAYMENT_EXPRESSION = RequestBodyTemplates.payment(
+      "payerAccountId", "payeeAccountId", DEFAULT_PAYMENT_AMOUNT);
+
+  private final BodyTemplate paymentTemplate = BodyTemplate.compile(PAYMENT_EXPRESSION);
+  private final Map<String, Object> session = new HashMap<>();
+
+  @Setup
+  public void prepareSession() {
+    session.put("payerAccountId", "0b7f5c8e-4a4e-4f5e-9a43-3f1d2c6a9b10");
+    session.put("payeeAccountId", "6e2d1a94-8c3b-4d7f-b1e5-0a9c8d7f6e21");
+    session.put("username", "perf_payer_i0_4c1f9a2e-7d3b-4e8a-9f60-1b2c3d4e5f60");
+    session.put("password", "Password123!");
+  }
+
+  // The lower bound: the same body written out by hand, which a template can only approach.
+  @Benchmark
+  public String handWrittenPaymentBody() {
+    return "{\"fromAccountId\":\"" + session.get("payerAccountId")
+        + "\",\"toAccountId\":\"" + session.get("payeeAccountId")
+        + "\",\"amount\":\"" + DEFAULT_PAYMENT_AMOUNT + "\"}";
+  }
+
+  @Benchmark
+  public String compiledPaymentBody() {
+    return paymentTemplate.render(session::get);
+  }
+
+  @Benchmark
+  public String compiledAuthBody() {
+    return RequestBodyTemplates.AUTH_BODY_TEMPLATE.render(session::get);
+  }
+
+  @Benchmark
+  public BodyTemplate compilePaymentTemplate() {
+    return BodyTemplate.compile(PAYMENT_EXPRESSION);
+  }
+
+  @Benchmark
+  public String bearerSessionToken() {
+    return HttpConstants.bearerSessionToken("payerToken");
+  }
+}
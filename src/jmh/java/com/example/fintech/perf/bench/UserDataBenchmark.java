@@ -0,0 +1,62 @@
+package com.example.fintech.perf.bench;
+
+import com.example.fintech.perf.util.UniqueIds;
+import com.example.fintech.perf.util.Users;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserDataBenchmark {
+
+  // Injector threads generate users concurrently, which is where a shared generator contends.
+  private static final int INJECTOR_THREADS = 8;
+
+  @Benchmark
+  public String secureRandomUuid() {
+    return UUID.randomUUID().toString();
+  }
+
+  @Benchmark
+  public String uniqueIdsUuid() {
+    return UniqueIds.uuid();
+  }
+
+  @Benchmark
+  @Threads(INJECTOR_THREADS)
+  public String secureRandomUuidContended() {
+    return UUID.randomUUID().toString();
+  }
+
+  @Benchmark
+  @Threads(INJECTOR_THREADS)
+  public String uniqueIdsUuidContended() {
+    return UniqueIds.uuid();
+  }
+
+  @Benchmark
+  public String username() {
+    return Users.username("perf_payer");
+  }
+
+  @Benchmark
+  @Threads(INJECTOR_THREADS)
+  public String usernameContended() {
+    return Users.username("perf_payer");
+  }
+}
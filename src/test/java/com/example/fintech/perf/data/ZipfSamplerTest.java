@@ -0,0 +1,65 @@
+package com.example.fintech.perf.data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ZipfSamplerTest {
+
+  private static final int SAMPLES = 200_000;
+
+  @Test
+  void rejectsEmptyRange() {
+    assertThrows(IllegalArgumentException.class, () -> new ZipfSampler(0, 1.0));
+  }
+
+  @Test
+  void singleElementIsAlwaysPicked() {
+    ZipfSampler sampler = new ZipfSampler(1, 1.0);
+
+    for (int sample = 0; sample < 1_000; sample++) {
+      assertEquals(0, sampler.nextIndex());
+    }
+  }
+
+  @Test
+  void frequenciesFollowInverseRankPowerLaw() {
+    int size = 5;
+    double[] frequencies = frequencies(new ZipfSampler(size, 1.0), size);
+
+    double harmonic = 1.0 + 1.0 / 2 + 1.0 / 3 + 1.0 / 4 + 1.0 / 5;
+    for (int rank = 1; rank <= size; rank++) {
+      assertEquals(1.0 / rank / harmonic, frequencies[rank - 1], 0.01, "rank " + rank);
+    }
+  }
+
+  @Test
+  void zeroExponentIsUniform() {
+    int size = 4;
+    double[] frequencies = frequencies(new ZipfSampler(size, 0.0), size);
+
+    for (double frequency : frequencies) {
+      assertEquals(0.25, frequency, 0.01);
+    }
+  }
+
+  @Test
+  void higherExponentConcentratesOnTheHottestIndex() {
+    double mild = frequencies(new ZipfSampler(10, 0.5), 10)[0];
+    double steep = frequencies(new ZipfSampler(10, 2.0), 10)[0];
+
+    assertTrue(steep > mild, "steep=" + steep + " mild=" + mild);
+  }
+
+  private static double[] frequencies(ZipfSampler sampler, int size) {
+    double[] frequencies = new double[size];
+    for (int sample = 0; sample < SAMPLES; sample++) {
+      int index = sampler.nextIndex();
+      assertTrue(index >= 0 && index < size, "index " + index);
+      frequencies[index] += 1.0 / SAMPLES;
+    }
+    return frequencies;
+  }
+}
@@ -0,0 +1,83 @@
+package com.example.fintech.perf.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LinearTrendTest {
+
+  @Test
+  void fitsAnExactLine() {
+    LinearTrend trend = new LinearTrend();
+    for (int x = 0; x < 10; x++) {
+      trend.add(x, 3.0 + 2.0 * x);
+    }
+
+    assertEquals(10, trend.points());
+    assertEquals(2.0, trend.slope(), 1e-9);
+    assertEquals(3.0, trend.intercept(), 1e-9);
+    assertEquals(4.5, trend.meanX(), 1e-9);
+    assertEquals(1.0, trend.correlation(), 1e-9);
+    assertEquals(200.0 / 3.0, trend.percentPerUnit(), 1e-9);
+  }
+
+  @Test
+  void decliningSeriesHasNegativeSlopeAndCorrelation() {
+    LinearTrend trend = new LinearTrend();
+    trend.add(0, 100.0);
+    trend.add(1, 90.0);
+    trend.add(2, 80.0);
+
+    assertEquals(-10.0, trend.slope(), 1e-9);
+    assertEquals(-1.0, trend.correlation(), 1e-9);
+    assertEquals(-10.0, trend.percentPerUnit(), 1e-9);
+  }
+
+  @Test
+  void noisySeriesHasWeakerCorrelation() {
+    LinearTrend trend = new LinearTrend();
+    double[] noise = {5.0, -4.0, 3.0, -5.0, 4.0, -3.0};
+    for (int x = 0; x < noise.length; x++) {
+      trend.add(x, 50.0 + x + noise[x]);
+    }
+
+    double correlation = trend.correlation();
+    assertTrue(correlation > 0.0 && correlation < 0.9, "r=" + correlation);
+  }
+
+  @Test
+  void tooFewPointsHaveNoTrend() {
+    LinearTrend empty = new LinearTrend();
+    LinearTrend single = new LinearTrend();
+    single.add(5, 42.0);
+
+    assertEquals(0.0, empty.slope());
+    assertEquals(0.0, empty.intercept());
+    assertEquals(0.0, empty.meanX());
+    assertEquals(0.0, single.slope());
+    assertEquals(42.0, single.intercept(), 1e-9);
+    assertEquals(0.0, single.correlation());
+  }
+
+  @Test
+  void constantSeriesIsUncorrelated() {
+    LinearTrend trend = new LinearTrend();
+    for (int x = 0; x < 5; x++) {
+      trend.add(x, 7.0);
+    }
+
+    assertEquals(0.0, trend.slope(), 1e-12);
+    assertEquals(0.0, trend.correlation());
+    assertEquals(0.0, trend.percentPerUnit(), 1e-12);
+  }
+
+  @Test
+  void nonPositiveStartLevelHasNoRelativeTrend() {
+    LinearTrend trend = new LinearTrend();
+    trend.add(0, 0.0);
+    trend.add(1, 5.0);
+
+    assertEquals(0.0, trend.percentPerUnit());
+  }
+}
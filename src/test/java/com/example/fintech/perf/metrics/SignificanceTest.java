@@ -0,0 +1,74 @@
+package com.example.fintech.perf.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SignificanceTest {
+
+  @Test
+  void sameLatencyDistributionIsNotSignificant() {
+    double pValue = Significance.slowerPValue(latencies(100, 300, 0), latencies(100, 300, 0));
+
+    assertTrue(pValue > 0.4, "p=" + pValue);
+  }
+
+  @Test
+  void uniformlySlowerRunIsSignificant() {
+    double pValue = Significance.slowerPValue(latencies(100, 300, 0), latencies(100, 300, 30));
+
+    assertTrue(pValue < 0.001, "p=" + pValue);
+  }
+
+  @Test
+  void fasterRunIsNeverFlaggedAsSlower() {
+    double pValue = Significance.slowerPValue(latencies(100, 300, 30), latencies(100, 300, 0));
+
+    assertTrue(pValue > 0.99, "p=" + pValue);
+  }
+
+  @Test
+  void smallShiftOnFewSamplesIsNotSignificant() {
+    double pValue = Significance.slowerPValue(latencies(100, 10, 0), latencies(100, 10, 2));
+
+    assertTrue(pValue > 0.01, "p=" + pValue);
+  }
+
+  @Test
+  void emptyOrConstantHistogramsGiveNoEvidence() {
+    Histogram constant = new Histogram(3);
+    constant.recordValueWithCount(100, 50);
+
+    assertEquals(1.0, Significance.slowerPValue(new Histogram(3), latencies(100, 300, 0)));
+    assertEquals(1.0, Significance.slowerPValue(constant, constant));
+  }
+
+  @Test
+  void higherFailureRateIsSignificantOnlyWithEnoughRequests() {
+    assertTrue(Significance.moreFailuresPValue(10, 10_000, 100, 10_000) < 0.001);
+    assertTrue(Significance.moreFailuresPValue(0, 20, 1, 20) > 0.01);
+  }
+
+  @Test
+  void equalOrLowerFailureRateIsNotSignificant() {
+    assertTrue(Significance.moreFailuresPValue(50, 1_000, 50, 1_000) >= 0.5);
+    assertTrue(Significance.moreFailuresPValue(100, 1_000, 10, 1_000) > 0.99);
+  }
+
+  @Test
+  void noFailuresOrNoRequestsGiveNoEvidence() {
+    assertEquals(1.0, Significance.moreFailuresPValue(0, 1_000, 0, 1_000));
+    assertEquals(1.0, Significance.moreFailuresPValue(0, 0, 5, 100));
+  }
+
+  // count samples spread evenly over [startMs, startMs + 100) and shifted by shiftMs
+  private static Histogram latencies(long startMs, int count, long shiftMs) {
+    Histogram histogram = new Histogram(3);
+    for (int sample = 0; sample < count; sample++) {
+      histogram.recordValue(startMs + shiftMs + sample * 100L / count);
+    }
+    return histogram;
+  }
+}
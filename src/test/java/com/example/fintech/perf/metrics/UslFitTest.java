@@ -0,0 +1,90 @@
+package com.example.fintech.perf.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UslFitTest {
+
+  private static final int[] SCALES = {1, 2, 4, 8, 16, 32, 64};
+
+  @Test
+  void recoversCoefficientsOfAnExactUslCurve() {
+    UslFit expected = new UslFit(100.0, 0.05, 0.001);
+
+    UslFit fit = UslFit.fit(curve(expected));
+
+    assertEquals(100.0, fit.lambda(), 1e-9);
+    assertEquals(0.05, fit.sigma(), 1e-6);
+    assertEquals(0.001, fit.kappa(), 1e-8);
+    assertEquals(1.0, fit.rSquared(curve(expected)), 1e-9);
+  }
+
+  @Test
+  void peakIsWhereCoherencyOutweighsAddedLoad() {
+    UslFit fit = UslFit.fit(curve(new UslFit(100.0, 0.05, 0.001)));
+
+    assertTrue(fit.hasPeak());
+    assertEquals(Math.sqrt(0.95 / 0.001), fit.peakScale(), 1e-3);
+    assertEquals(fit.throughputAt(fit.peakScale()), fit.peakThroughput(), 1e-9);
+  }
+
+  @Test
+  void contentionOnlyCurveFlattensOutWithoutPeak() {
+    UslFit fit = UslFit.fit(curve(new UslFit(50.0, 0.1, 0.0)));
+
+    assertEquals(0.1, fit.sigma(), 1e-9);
+    assertEquals(0.0, fit.kappa(), 1e-12);
+    assertFalse(fit.hasPeak());
+    assertEquals(Double.POSITIVE_INFINITY, fit.peakScale());
+    assertEquals(500.0, fit.peakThroughput(), 1e-6);
+  }
+
+  @Test
+  void linearScalingHasNoContentionOrCoherencyCost() {
+    UslFit fit = UslFit.fit(curve(new UslFit(20.0, 0.0, 0.0)));
+
+    assertEquals(0.0, fit.sigma(), 1e-12);
+    assertEquals(0.0, fit.kappa(), 1e-12);
+    assertEquals(Double.POSITIVE_INFINITY, fit.peakThroughput());
+  }
+
+  @Test
+  void superlinearPointsNeverProduceNegativeCoefficients() {
+    List<ScalabilityPoint> points = List.of(point(1, 10.0), point(2, 25.0), point(4, 60.0), point(8, 100.0));
+
+    UslFit fit = UslFit.fit(points);
+
+    assertTrue(fit.sigma() >= 0, "sigma=" + fit.sigma());
+    assertTrue(fit.kappa() >= 0, "kappa=" + fit.kappa());
+  }
+
+  @Test
+  void failedPointsAreLeftOutOfTheFit() {
+    UslFit expected = new UslFit(100.0, 0.05, 0.001);
+    List<ScalabilityPoint> points = new ArrayList<>(curve(expected));
+    points.add(point(128, 0.0));
+
+    UslFit fit = UslFit.fit(points);
+
+    assertEquals(0.05, fit.sigma(), 1e-6);
+    assertEquals(0.001, fit.kappa(), 1e-8);
+  }
+
+  private static List<ScalabilityPoint> curve(UslFit model) {
+    return Arrays.stream(SCALES)
+        .mapToObj(scale -> point(scale, model.throughputAt(scale)))
+        .toList();
+  }
+
+  private static ScalabilityPoint point(int scale, double throughput) {
+    return new ScalabilityPoint("sweep", "Simulation", "baseline", "abc1234", scale, 0L, 60_000L, 1_000L, 0L,
+        throughput, 100L, 200L);
+  }
+}
@@ -0,0 +1,57 @@
+package com.example.fintech.perf.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PacingThrottleTest {
+
+  private static final long START = TimeUnit.SECONDS.toNanos(100);
+
+  @Test
+  void spacesBackToBackRequestsAtTheTargetRate() {
+    Pacing.Throttle throttle = new Pacing.Throttle(10.0, START);
+
+    assertEquals(0, throttle.delayMs(START));
+    assertEquals(100, throttle.delayMs(START));
+    assertEquals(200, throttle.delayMs(START));
+    assertEquals(300, throttle.delayMs(START));
+  }
+
+  @Test
+  void requestsArrivingAtTheTargetRateAreNotDelayed() {
+    Pacing.Throttle throttle = new Pacing.Throttle(4.0, START);
+
+    for (int request = 0; request < 20; request++) {
+      assertEquals(0, throttle.delayMs(START + request * TimeUnit.MILLISECONDS.toNanos(250)));
+    }
+  }
+
+  @Test
+  void afterAStallCatchesUpWithAtMostOneSecondOfRequests() {
+    Pacing.Throttle throttle = new Pacing.Throttle(10.0, START);
+    throttle.delayMs(START);
+    long afterStall = START + TimeUnit.SECONDS.toNanos(30);
+
+    int undelayed = 0;
+    long delayMs;
+    while ((delayMs = throttle.delayMs(afterStall)) == 0) {
+      undelayed++;
+    }
+
+    // ten slots from the last second plus the one that is due now
+    assertEquals(11, undelayed);
+    assertEquals(100, delayMs);
+  }
+
+  @Test
+  void fractionalRatesKeepTheirInterval() {
+    Pacing.Throttle throttle = new Pacing.Throttle(0.5, START);
+
+    assertEquals(0, throttle.delayMs(START));
+    assertEquals(2_000, throttle.delayMs(START));
+    assertEquals(1_000, throttle.delayMs(START + TimeUnit.SECONDS.toNanos(3)));
+  }
+}